@@ -0,0 +1,93 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * <h1>리뷰 검열 벤치마크</h1>
+ * 실제 금칙어 목록(moderation/words.txt)에 한글 음절로 만든 단어를 더해 {@code words} 개로 늘린 뒤,
+ * 리뷰 한 건을 검사하는 시간을 단어마다 정규식을 실행하는 이전 방식과 비교합니다<br/>
+ * 실행: {@code ./gradlew jmh}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AhoCorasickBenchmark {
+
+    private static final String[] REVIEWS = {
+            "오늘 중식 오향장육 진짜 맛있었어요 기장밥도 고슬고슬하고 국도 따뜻해서 좋았습니다",
+            "미소된장국이 너무 짜요 ㅠㅠ 다음에는 조금 싱겁게 해주세요",
+            "새알심만두국 최고!! 매주 나왔으면 좋겠다",
+            "석식 양이 너무 적어요. 운동부는 배고파요... 밥 좀 더 주세요",
+            "떡볶이 존나 맛있음 ㅋㅋㅋ 급식실 선생님들 감사합니다",
+            "카톡문의 주시면 부업 알려드립니다 www 링크",
+            "시발점이 어디냐면 오늘 돈까스 소스가 바뀐 것부터였어요 전보다 훨씬 나아짐",
+            "김치가 너무 시어서 못 먹겠어요. 샐러드 드레싱은 좋았어요"
+    };
+
+    @Param({ "0", "1000", "10000" })
+    private int extraWords;
+
+    private AhoCorasick automaton;
+    private List<Pattern> patterns;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<String> words = new ArrayList<>(loadWords());
+        words.addAll(syllableWords(extraWords));
+        automaton = AhoCorasick.build(words);
+        patterns = words.stream()
+                .map(word -> Pattern.compile(Pattern.quote(word), Pattern.CASE_INSENSITIVE))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public void ahoCorasick(Blackhole blackhole) {
+        for (String review : REVIEWS) {
+            automaton.scan(review, (start, end) -> blackhole.consume(start));
+        }
+    }
+
+    @Benchmark
+    public void regexPerWord(Blackhole blackhole) {
+        for (String review : REVIEWS) {
+            for (Pattern pattern : patterns) {
+                if (pattern.matcher(review).find()) blackhole.consume(pattern);
+            }
+        }
+    }
+
+    private static List<String> loadWords() throws IOException {
+        try (InputStream input = AhoCorasickBenchmark.class.getClassLoader().getResourceAsStream("moderation/words.txt")) {
+            String content = new String(Objects.requireNonNull(input).readAllBytes(), StandardCharsets.UTF_8);
+            return Arrays.stream(content.split("\\R"))
+                    .map(String::strip)
+                    .filter(word -> !word.isEmpty() && !word.startsWith("#") && !word.startsWith("!"))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    // 실제 목록이 커졌을 때처럼 2~4 음절 한글 단어를 만듭니다. 리뷰 문장과 거의 겹치지 않도록 흔하지 않은 음절도 섞입니다
+    private static List<String> syllableWords(int count) {
+        SplittableRandom random = new SplittableRandom(47);
+        Set<String> words = new LinkedHashSet<>();
+        while (words.size() < count) {
+            int length = 2 + random.nextInt(3);
+            StringBuilder word = new StringBuilder(length);
+            for (int i = 0; i < length; i++) word.append((char) ('가' + random.nextInt('힣' - '가' + 1)));
+            words.add(word.toString());
+        }
+        return new ArrayList<>(words);
+    }
+}
@@ -4,6 +4,7 @@ import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.User;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.validator.constraints.Length;
@@ -20,11 +21,21 @@ import java.util.Set;
 @AllArgsConstructor @NoArgsConstructor
 @Builder
 @Entity
+@Table(indexes = {
+        // 상태(+분류)별 목록을 최신순으로 읽는 조회를 인덱스 범위 스캔으로 처리합니다
+        @Index(name = "idx_menu_request_state_create_at", columnList = "state, create_at"),
+        @Index(name = "idx_menu_request_state_category_create_at", columnList = "state, menu_category, create_at")
+})
 public class MenuRequest {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 상태 변경 충돌 감지용 버전. 투표는 이 값을 올리지 않고 검증만 합니다
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
     @ManyToOne
     @JoinColumn(name = "user_id")
     private User user;
@@ -0,0 +1,51 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 처리된 메뉴 요청 (menu_request_archive)
+ * 원본 id 를 그대로 사용하며, 투표 수는 옮길 때 계산해 함께 저장합니다
+ */
+@Getter
+@AllArgsConstructor @NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "menu_request_archive", indexes = {
+        @Index(name = "idx_menu_request_archive_state_create_at", columnList = "state, create_at"),
+        @Index(name = "idx_menu_request_archive_state_category_create_at", columnList = "state, menu_category, create_at")
+})
+public class MenuRequestArchive {
+
+    @Id
+    private Long id;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    private LocalDateTime createAt;
+
+    private LocalDateTime acceptedAt;
+
+    private String menuName;
+
+    @Column(length = 512)
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    private MenuState state;
+
+    @Enumerated(EnumType.STRING)
+    private MenuCategory menuCategory;
+
+    private Long votes;
+
+    private LocalDateTime archivedAt;
+}
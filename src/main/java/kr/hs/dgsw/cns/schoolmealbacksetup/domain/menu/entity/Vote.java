@@ -1,5 +1,6 @@
 package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity;
 
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.User;
 import kr.hs.dgsw.cns.schoolmealbacksetup.global.exception.BusinessException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,12 +15,19 @@ import javax.persistence.*;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Table(indexes = @Index(name = "idx_vote_menu_request_id", columnList = "menu_request_id"))
 public class Vote {
     @EmbeddedId
     private VoteId id;
 
-    @ManyToOne
-    @JoinColumn(name = "menu_request_id", nullable = false, unique = true)
+    @MapsId("userId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @MapsId("menuRequestId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "menu_request_id", nullable = false)
     private MenuRequest menuRequest;
 
     public void setMenuRequest(MenuRequest menuRequest) {
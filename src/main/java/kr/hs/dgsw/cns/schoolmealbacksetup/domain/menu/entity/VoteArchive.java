@@ -0,0 +1,23 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 처리된 투표 (vote_archive)
+ */
+@Getter
+@AllArgsConstructor @NoArgsConstructor
+@Entity
+@Table(name = "vote_archive", indexes = @Index(name = "idx_vote_archive_menu_request_id", columnList = "menu_request_id"))
+public class VoteArchive {
+
+    @EmbeddedId
+    private VoteId id;
+
+    private LocalDateTime archivedAt;
+}
@@ -1,18 +1,27 @@
 package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity;
 
-import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.AuthId;
-import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.User;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import javax.persistence.*;
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
 import java.io.Serializable;
 
+/**
+ * 투표 복합키 (user_id, menu_request_id)
+ * 한 사용자는 메뉴마다 한 번씩만 투표할 수 있으며, 중복 투표는 기본키 제약조건으로 걸러집니다.
+ */
 @Getter
 @Embeddable
+@EqualsAndHashCode
 @AllArgsConstructor @NoArgsConstructor
 public class VoteId implements Serializable {
-    @Embedded
-    private AuthId id;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "menu_request_id")
+    private Long menuRequestId;
 }
@@ -0,0 +1,35 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 메뉴별 시간 단위 투표 증감 (vote_timeline)
+ * {@code buckets}는 시간 ring buffer(int 배열)를 big-endian 으로 그대로 직렬화한 값이며,
+ * {@code latestHour}는 가장 최근 칸의 epoch hour 입니다
+ */
+@Getter
+@AllArgsConstructor @NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "vote_timeline")
+public class VoteTimeline {
+
+    @Id
+    @Column(name = "menu_request_id")
+    private Long menuRequestId;
+
+    @Column(nullable = false)
+    private Long latestHour;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] buckets;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,24 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 메뉴가 보관 테이블로 옮겨졌을 때 청크 단위로 발행됩니다
+ */
+@Getter
+@AllArgsConstructor
+public class MenuArchivedEvent {
+    private final Map<Long, Archived> menus;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Archived {
+        private final MenuCategory category;
+        private final MenuState state;
+    }
+}
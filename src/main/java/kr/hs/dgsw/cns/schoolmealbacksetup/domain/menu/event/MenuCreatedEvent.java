@@ -0,0 +1,17 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 새로운 메뉴 요청이 STANDBY 상태로 등록되었을 때 발행됩니다
+ */
+@Getter
+@AllArgsConstructor
+public class MenuCreatedEvent {
+    private final long menuId;
+    private final String menuName;
+    private final String content;
+    private final MenuCategory menuCategory;
+}
@@ -0,0 +1,40 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 메뉴 상태가 바뀌었을 때 발행됩니다
+ * 일괄 변경 시에는 변경된 메뉴 전체가 한 이벤트에 담깁니다
+ */
+@Getter
+@AllArgsConstructor
+public class MenuStateEvent {
+    private final Map<Long, Change> changes;
+
+    public static MenuStateEvent of(long menuId, MenuCategory category, MenuState previous, MenuState state) {
+        return new MenuStateEvent(Map.of(menuId, new Change(category, previous, state)));
+    }
+
+    /**
+     * 메뉴 id 별 바뀐 뒤의 상태
+     */
+    public Map<Long, MenuState> getStates() {
+        Map<Long, MenuState> states = new LinkedHashMap<>();
+        changes.forEach((menuId, change) -> states.put(menuId, change.getState()));
+        return states;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Change {
+        private final MenuCategory category;
+        private final MenuState previous;
+        private final MenuState state;
+    }
+}
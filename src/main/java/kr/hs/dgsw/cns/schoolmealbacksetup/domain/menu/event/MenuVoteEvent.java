@@ -0,0 +1,15 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 메뉴의 투표 수가 바뀌었을 때 발행됩니다
+ * {@code delta}는 투표 시 +1, 취소 시 -1 입니다
+ */
+@Getter
+@AllArgsConstructor
+public class MenuVoteEvent {
+    private final long menuId;
+    private final int delta;
+}
@@ -1,18 +1,29 @@
 package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation;
 
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.request.MenuBulkStateDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.request.MenuCreationDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.request.MenuSelectionType;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.MenuBulkStateResultDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.MenuDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.MenuFacetDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.MenuLeaderboardDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.MenuListDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.request.MenuStateDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.PlannerDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.SimilarMenuListDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.VoteTimelineDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service.MenuService;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.annotation.Resource;
 import javax.validation.Valid;
@@ -27,8 +38,17 @@ public class MenuController {
     private final MenuService menuService;
 
     @GetMapping
-    public MenuListDto findAllMenu(@RequestParam(defaultValue = "1") int page, @RequestParam(defaultValue = "ACCEPTED") String status) {
-        return menuService.findAllMenus(page, MenuSelectionType.fromString(status));
+    public MenuListDto findAllMenu(@RequestParam(defaultValue = "1") int page,
+                                   @RequestParam(defaultValue = "ACCEPTED") String status,
+                                   @RequestParam(required = false) String kind,
+                                   @RequestParam(defaultValue = "false") boolean archived) {
+        MenuCategory category = (kind == null) ? null : MenuCategory.fromMenuCategory(kind);
+        return menuService.findAllMenus(page, MenuSelectionType.fromString(status), category, archived);
+    }
+
+    @GetMapping("/facets")
+    public MenuFacetDto getFacets() {
+        return menuService.getFacets();
     }
 
     @PostMapping
@@ -57,6 +77,18 @@ public class MenuController {
         menuService.cancelVote((User) authentication.getPrincipal(), menuId);
     }
 
+    @GetMapping("/{menu-id}/votes/timeline")
+    public VoteTimelineDto getVoteTimeline(@PathVariable(name = "menu-id") long menuId,
+                                           @RequestParam(defaultValue = "168") int hours) {
+        return menuService.getVoteTimeline(menuId, hours);
+    }
+
+    @GetMapping("/votes/export")
+    public ResponseEntity<StreamingResponseBody> exportVotes(@RequestParam(defaultValue = "ndjson") String format,
+                                                             @RequestParam(defaultValue = "false") boolean archived) {
+        return menuService.exportVotes(format, archived);
+    }
+
     @PatchMapping("/{menu-id}/state")
     @ResponseStatus(HttpStatus.CREATED)
     public MenuDto updateMenuState(@PathVariable(name = "menu-id") long menuId,
@@ -69,6 +101,32 @@ public class MenuController {
         );
     }
 
+    @PatchMapping("/state")
+    public MenuBulkStateResultDto updateMenuStates(@RequestBody @Valid MenuBulkStateDto menuBulkStateDto,
+                                                   Authentication authentication) {
+        return menuService.updateStates((User) authentication.getPrincipal(), menuBulkStateDto);
+    }
+
+    @GetMapping("/leaderboard")
+    public MenuLeaderboardDto getLeaderboard(@RequestParam(defaultValue = "10") int size) {
+        return menuService.getLeaderboard(size);
+    }
+
+    @GetMapping("/similar")
+    public SimilarMenuListDto findSimilarMenus(@RequestParam(name = "menu_name") String menuName) {
+        return menuService.findSimilarMenus(menuName);
+    }
+
+    @GetMapping("/search")
+    public MenuListDto searchMenus(@RequestParam String q, @RequestParam(defaultValue = "0") int page) {
+        return menuService.searchMenus(q, page);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMenuEvents() {
+        return menuService.subscribeMenuEvents();
+    }
+
     @GetMapping("/planner")
     public PlannerDto getMenuPlanner(@RequestParam int year,
                                      @RequestParam int month,
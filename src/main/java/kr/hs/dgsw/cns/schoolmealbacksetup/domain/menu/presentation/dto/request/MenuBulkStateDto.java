@@ -0,0 +1,30 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor @NoArgsConstructor
+public class MenuBulkStateDto {
+    @Valid
+    @NotEmpty
+    @Size(max = 500)
+    private List<Item> menus;
+
+    @Getter
+    @AllArgsConstructor @NoArgsConstructor
+    public static class Item {
+        @NotNull
+        private Long id;
+
+        @NotNull
+        private boolean accepted;
+    }
+}
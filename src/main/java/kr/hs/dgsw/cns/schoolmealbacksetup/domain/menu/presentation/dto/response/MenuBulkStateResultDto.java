@@ -0,0 +1,27 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class MenuBulkStateResultDto {
+    private final List<Result> result;
+
+    public enum Status {
+        UPDATED, UNCHANGED, NOT_FOUND
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Result {
+        private final Long id;
+        private final Status status;
+        private final MenuState menuState;
+    }
+}
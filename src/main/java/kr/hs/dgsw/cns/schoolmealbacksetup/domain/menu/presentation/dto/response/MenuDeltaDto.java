@@ -0,0 +1,19 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MenuDeltaDto {
+    private final Long id;
+
+    @JsonProperty("vote_delta")
+    private final Integer voteDelta;
+
+    private final MenuState menuState;
+}
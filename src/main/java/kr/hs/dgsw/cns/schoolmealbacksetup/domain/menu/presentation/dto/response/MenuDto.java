@@ -1,7 +1,9 @@
 package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.MenuRequest;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.MenuRequestArchive;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.User;
@@ -10,6 +12,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.ZoneId;
+import java.util.List;
 
 @Getter
 @AllArgsConstructor
@@ -33,7 +36,15 @@ public class MenuDto {
 
     private final Boolean isVoted;
 
+    // 메뉴 추가 응답에만 포함되는, 이미 대기중인 비슷한 메뉴 목록
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final List<SimilarMenuDto> similar;
+
     public MenuDto(MenuRequest menuRequest, User me) {
+        this(menuRequest, me, null);
+    }
+
+    public MenuDto(MenuRequest menuRequest, User me, List<SimilarMenuDto> similar) {
         this.id = menuRequest.getId();
         this.writtenAt = menuRequest.getCreateAt()
                 .atZone(ZoneId.of("Asia/Seoul"))
@@ -44,6 +55,22 @@ public class MenuDto {
         this.kind = menuRequest.getMenuCategory();
         this.votes = (menuRequest.getVotes() == null) ? 0 : menuRequest.getVotes().size();
         this.menuState = menuRequest.getState();
-        this.isVoted = menuRequest.getVotes().stream().filter(it -> it.getId().getId().getUser().getId().equals(me.getId())).count() == 1;
+        this.isVoted = me != null && menuRequest.getVotes().stream().filter(it -> it.getId().getUserId().equals(me.getId())).count() == 1;
+        this.similar = similar;
+    }
+
+    public MenuDto(MenuRequestArchive archive, boolean voted) {
+        this.id = archive.getId();
+        this.writtenAt = archive.getCreateAt()
+                .atZone(ZoneId.of("Asia/Seoul"))
+                .toInstant()
+                .toEpochMilli();
+        this.menuName = archive.getMenuName();
+        this.description = archive.getContent();
+        this.kind = archive.getMenuCategory();
+        this.votes = (archive.getVotes() == null) ? 0 : archive.getVotes().intValue();
+        this.menuState = archive.getState();
+        this.isVoted = voted;
+        this.similar = null;
     }
 }
@@ -0,0 +1,14 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class MenuFacetDto {
+    private final Map<MenuCategory, Map<MenuState, Long>> result;
+}
@@ -0,0 +1,12 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class MenuLeaderboardDto {
+    private final List<RankedMenuDto> result;
+}
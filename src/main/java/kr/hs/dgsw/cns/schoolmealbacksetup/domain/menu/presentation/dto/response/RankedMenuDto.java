@@ -0,0 +1,20 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class RankedMenuDto {
+    private final Integer rank;
+
+    private final Long id;
+
+    @JsonProperty("menu_name")
+    private final String menuName;
+
+    private final Long votes;
+}
@@ -0,0 +1,21 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * {@code start}(epoch millis) 부터 한 시간 간격의 투표 증감입니다
+ * 취소가 더 많았던 시간은 음수가 됩니다
+ */
+@Getter
+@AllArgsConstructor
+public class VoteTimelineDto {
+
+    @JsonProperty("menu_id")
+    private final Long menuId;
+
+    private final Long start;
+
+    private final int[] votes;
+}
@@ -0,0 +1,16 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
+
+import java.time.LocalDateTime;
+
+/**
+ * 투표 기간이 끝난 메뉴 projection (마감 처리용)
+ */
+public interface ExpiredMenu {
+    Long getId();
+
+    LocalDateTime getCreateAt();
+
+    MenuCategory getMenuCategory();
+}
@@ -0,0 +1,15 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
+
+/**
+ * 분류 x 상태별 메뉴 수 집계 projection
+ */
+public interface MenuFacetCount {
+    MenuCategory getMenuCategory();
+
+    MenuState getState();
+
+    Long getMenus();
+}
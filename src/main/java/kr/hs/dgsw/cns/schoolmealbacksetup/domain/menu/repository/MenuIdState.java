@@ -0,0 +1,15 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
+
+/**
+ * 메뉴 id 와 상태, 분류만 읽는 projection
+ */
+public interface MenuIdState {
+    Long getId();
+
+    MenuState getState();
+
+    MenuCategory getMenuCategory();
+}
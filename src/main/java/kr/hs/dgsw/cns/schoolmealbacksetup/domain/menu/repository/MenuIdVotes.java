@@ -0,0 +1,10 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository;
+
+/**
+ * 메뉴 id 별 투표 수 projection
+ */
+public interface MenuIdVotes {
+    Long getId();
+
+    Long getVotes();
+}
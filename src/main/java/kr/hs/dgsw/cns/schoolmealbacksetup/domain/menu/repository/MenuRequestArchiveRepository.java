@@ -0,0 +1,48 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.MenuRequestArchive;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface MenuRequestArchiveRepository extends JpaRepository<MenuRequestArchive, Long> {
+
+    @Query("SELECT menu FROM MenuRequestArchive menu WHERE menu.state=:state")
+    Page<MenuRequestArchive> findAllByState(MenuState state, Pageable pageRequest);
+
+    @Query("SELECT menu FROM MenuRequestArchive menu WHERE menu.state=:state AND menu.menuCategory=:category")
+    Page<MenuRequestArchive> findAllByStateAndCategory(MenuState state, MenuCategory category, Pageable pageRequest);
+
+    /**
+     * 메뉴와 그 투표 수를 보관 테이블로 복사합니다. 이미 복사된 메뉴는 무시합니다
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO menu_request_archive " +
+            "(id, user_id, create_at, accepted_at, menu_name, content, state, menu_category, votes, archived_at) " +
+            "SELECT m.id, m.user_id, m.create_at, m.accepted_at, m.menu_name, m.content, m.state, m.menu_category, " +
+            "(SELECT COUNT(*) FROM vote v WHERE v.menu_request_id = m.id), :archivedAt " +
+            "FROM menu_request m WHERE m.id IN (:ids)", nativeQuery = true)
+    int copyMenus(Collection<Long> ids, LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO vote_archive (user_id, menu_request_id, archived_at) " +
+            "SELECT v.user_id, v.menu_request_id, :archivedAt FROM vote v WHERE v.menu_request_id IN (:ids)", nativeQuery = true)
+    int copyVotes(Collection<Long> ids, LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM vote WHERE menu_request_id IN (:ids)", nativeQuery = true)
+    int deleteVotes(Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM menu_request WHERE id IN (:ids)", nativeQuery = true)
+    int deleteMenus(Collection<Long> ids);
+}
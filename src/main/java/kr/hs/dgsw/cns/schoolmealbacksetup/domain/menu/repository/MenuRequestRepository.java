@@ -1,14 +1,21 @@
 package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository;
 
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.MenuRequest;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface MenuRequestRepository extends JpaRepository<MenuRequest, Long> {
@@ -18,4 +25,66 @@ public interface MenuRequestRepository extends JpaRepository<MenuRequest, Long>
 
     @Query("SELECT menu FROM MenuRequest menu WHERE menu.state=:state ORDER BY menu.createAt")
     Page<MenuRequest> findAllByState(MenuState state, Pageable pageRequest);
+
+    @Query("SELECT menu FROM MenuRequest menu WHERE menu.state=:state AND menu.menuCategory=:category ORDER BY menu.createAt")
+    Page<MenuRequest> findAllByStateAndCategory(MenuState state, MenuCategory category, Pageable pageRequest);
+
+    /**
+     * 커밋 시점에 버전이 바뀌지 않았는지 검증하는 조회입니다<br/>
+     * 투표 도중 관리자가 상태를 바꾼 경우 커밋이 실패합니다
+     */
+    @Lock(LockModeType.OPTIMISTIC)
+    @Query("SELECT menu FROM MenuRequest menu WHERE menu.id=:id")
+    Optional<MenuRequest> findWithOptimisticLockById(long id);
+
+    @Query("SELECT menu.id AS id, menu.menuName AS menuName, COUNT(vote.id.userId) AS votes " +
+            "FROM MenuRequest menu LEFT JOIN menu.votes vote " +
+            "WHERE menu.state=:state GROUP BY menu.id, menu.menuName")
+    List<MenuVoteCount> countVotesByState(MenuState state);
+
+    /**
+     * id 기준 keyset 페이지로 메뉴 텍스트를 읽습니다 (검색 색인 재구성용)
+     */
+    @Query("SELECT menu.id AS id, menu.menuName AS menuName, menu.content AS content " +
+            "FROM MenuRequest menu WHERE menu.id > :lastId ORDER BY menu.id")
+    List<MenuText> findTextsAfter(long lastId, Pageable pageable);
+
+    @Query("SELECT menu.id AS id, menu.menuName AS menuName, menu.content AS content " +
+            "FROM MenuRequest menu WHERE menu.state=:state")
+    List<MenuText> findTextsByState(MenuState state);
+
+    @Query("SELECT menu.menuCategory AS menuCategory, menu.state AS state, COUNT(menu.id) AS menus " +
+            "FROM MenuRequest menu GROUP BY menu.menuCategory, menu.state")
+    List<MenuFacetCount> countByCategoryAndState();
+
+    @Query("SELECT menu.id AS id, menu.state AS state, menu.menuCategory AS menuCategory " +
+            "FROM MenuRequest menu WHERE menu.id IN :ids")
+    List<MenuIdState> findStatesByIdIn(Collection<Long> ids);
+
+    /**
+     * 결정된 지 오래된 메뉴를 id 순서로 읽습니다 (보관 처리용)
+     */
+    @Query("SELECT menu.id AS id, menu.state AS state, menu.menuCategory AS menuCategory FROM MenuRequest menu " +
+            "WHERE (menu.state=:denied AND menu.acceptedAt < :deniedBefore) " +
+            "OR (menu.state=:allowed AND menu.acceptedAt < :allowedBefore) ORDER BY menu.id")
+    List<MenuIdState> findArchivable(MenuState denied, LocalDateTime deniedBefore,
+                                     MenuState allowed, LocalDateTime allowedBefore, Pageable pageable);
+
+    /**
+     * (create_at, id) 순서로 {@code afterCreateAt, afterId} 다음부터 {@code deadline} 이전에 작성된 메뉴를 읽습니다
+     */
+    @Query("SELECT menu.id AS id, menu.createAt AS createAt, menu.menuCategory AS menuCategory FROM MenuRequest menu " +
+            "WHERE menu.state=:state AND menu.createAt < :deadline " +
+            "AND (menu.createAt > :afterCreateAt OR (menu.createAt = :afterCreateAt AND menu.id > :afterId)) " +
+            "ORDER BY menu.createAt, menu.id")
+    List<ExpiredMenu> findExpired(MenuState state, LocalDateTime deadline,
+                                  LocalDateTime afterCreateAt, long afterId, Pageable pageable);
+
+    /**
+     * 아직 {@code expected} 상태인 메뉴만 바꿉니다. 반환값이 {@code ids} 크기보다 작으면 그 사이 다른 요청이 상태를 바꾼 것입니다
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE MenuRequest menu SET menu.state=:state, menu.acceptedAt=:acceptedAt, menu.version=menu.version + 1 " +
+            "WHERE menu.id IN :ids AND menu.state=:expected")
+    int updateStateByIdInAndState(MenuState state, LocalDateTime acceptedAt, Collection<Long> ids, MenuState expected);
 }
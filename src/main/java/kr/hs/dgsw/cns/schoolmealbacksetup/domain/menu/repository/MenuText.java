@@ -0,0 +1,12 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository;
+
+/**
+ * 검색 색인 구성용 메뉴 텍스트 projection
+ */
+public interface MenuText {
+    Long getId();
+
+    String getMenuName();
+
+    String getContent();
+}
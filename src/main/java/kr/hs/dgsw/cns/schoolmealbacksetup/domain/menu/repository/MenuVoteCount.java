@@ -0,0 +1,12 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository;
+
+/**
+ * 메뉴별 투표 수 집계 projection
+ */
+public interface MenuVoteCount {
+    Long getId();
+
+    String getMenuName();
+
+    Long getVotes();
+}
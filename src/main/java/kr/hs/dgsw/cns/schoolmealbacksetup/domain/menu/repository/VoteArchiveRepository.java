@@ -0,0 +1,36 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.VoteArchive;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.VoteId;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.export.StreamingExporter;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+@Repository
+public interface VoteArchiveRepository extends CrudRepository<VoteArchive, VoteId> {
+
+    @Query("select v.id.menuRequestId from VoteArchive v where v.id.userId = :userId and v.id.menuRequestId in :menuRequestIds")
+    List<Long> findVotedMenuRequestIds(@Param("userId") long userId,
+                                       @Param("menuRequestIds") Collection<Long> menuRequestIds);
+
+    /**
+     * 보관 처리된 투표를 (user_id, menu_request_id) 순서로 {@link StreamingExporter#FETCH_SIZE} 행씩 나눠 읽습니다<br/>
+     * 트랜잭션 안에서 사용하고 다 쓰면 닫아야 합니다
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = StreamingExporter.FETCH_SIZE))
+    @Query("select vote.id.userId as userId, vote.id.menuRequestId as menuRequestId, menu.menuName as menuName, " +
+            "menu.menuCategory as menuCategory, menu.state as state " +
+            "from VoteArchive vote, MenuRequestArchive menu where menu.id = vote.id.menuRequestId " +
+            "order by vote.id.userId, vote.id.menuRequestId")
+    Stream<VoteExportRow> streamAllForExport();
+}
@@ -0,0 +1,19 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
+
+/**
+ * 투표 내보내기 projection (투표한 사용자 id 와 메뉴 정보)
+ */
+public interface VoteExportRow {
+    Long getUserId();
+
+    Long getMenuRequestId();
+
+    String getMenuName();
+
+    MenuCategory getMenuCategory();
+
+    MenuState getState();
+}
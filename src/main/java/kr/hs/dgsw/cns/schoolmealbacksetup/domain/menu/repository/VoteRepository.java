@@ -1,22 +1,54 @@
 package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository;
 
-import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.MenuRequest;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.Vote;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.VoteId;
-import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.User;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.export.StreamingExporter;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface VoteRepository extends CrudRepository<Vote, VoteId> {
 
-    @Query("select (count(v) > 0) from Vote v where v.id.id.user = ?1")
-    boolean existsByIdIdUser(User user);
+    @Query("select v.id.userId from Vote v where v.id.menuRequestId = :menuRequestId")
+    List<Long> findUserIdsByMenuRequestId(@Param("menuRequestId") long menuRequestId);
+
+    @Query("select v.id.menuRequestId as id, count(v.id.userId) as votes from Vote v " +
+            "where v.id.menuRequestId in :menuRequestIds group by v.id.menuRequestId")
+    List<MenuIdVotes> countByMenuRequestIdIn(@Param("menuRequestIds") Collection<Long> menuRequestIds);
+
+    /**
+     * 기본키 (user_id, menu_request_id) 충돌 시 무시하는 단일 INSERT 입니다.
+     * @return 삽입된 행 수. 0 이면 이미 투표한 상태입니다
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO vote (user_id, menu_request_id) VALUES (:userId, :menuRequestId)", nativeQuery = true)
+    int insertIgnore(@Param("userId") long userId, @Param("menuRequestId") long menuRequestId);
 
-    @Query("select v from Vote v where v.id.id.user = ?1 and v.menuRequest = ?2")
-    Optional<Vote> findByIdIdUserAndMenuRequest(User user, MenuRequest menuRequest);
+    /**
+     * @return 삭제된 행 수. 0 이면 투표한 적이 없는 상태입니다
+     */
+    @Modifying
+    @Query("delete from Vote v where v.id.userId = :userId and v.id.menuRequestId = :menuRequestId")
+    int deleteByUserIdAndMenuRequestId(@Param("userId") long userId, @Param("menuRequestId") long menuRequestId);
 
+    /**
+     * 전체 투표를 (user_id, menu_request_id) 순서로 {@link StreamingExporter#FETCH_SIZE} 행씩 나눠 읽습니다<br/>
+     * 트랜잭션 안에서 사용하고 다 쓰면 닫아야 합니다
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = StreamingExporter.FETCH_SIZE))
+    @Query("select vote.id.userId as userId, vote.id.menuRequestId as menuRequestId, menu.menuName as menuName, " +
+            "menu.menuCategory as menuCategory, menu.state as state from Vote vote join vote.menuRequest menu " +
+            "order by vote.id.userId, vote.id.menuRequestId")
+    Stream<VoteExportRow> streamAllForExport();
 }
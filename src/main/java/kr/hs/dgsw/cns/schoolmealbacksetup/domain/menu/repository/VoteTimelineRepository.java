@@ -0,0 +1,7 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.VoteTimeline;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface VoteTimelineRepository extends JpaRepository<VoteTimeline, Long> {
+}
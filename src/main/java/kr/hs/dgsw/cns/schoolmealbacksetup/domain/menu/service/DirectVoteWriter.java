@@ -0,0 +1,33 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.Vote;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.VoteRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 호출한 트랜잭션 안에서 바로 투표를 반영합니다 (기본값)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "menu.vote.write-behind", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class DirectVoteWriter implements VoteWriter {
+
+    private final VoteRepository voteRepository;
+
+    @Override
+    public void addVote(long userId, long menuId) {
+        // (user_id, menu_request_id) 기본키 충돌 시 0 이 반환되므로 별도의 존재 여부 조회가 필요 없습니다
+        if (voteRepository.insertIgnore(userId, menuId) == 0) {
+            throw new Vote.AlreadyVoted();
+        }
+    }
+
+    @Override
+    public void cancelVote(long userId, long menuId) {
+        if (voteRepository.deleteByUserIdAndMenuRequestId(userId, menuId) == 0) {
+            throw new Vote.NeverVoted();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuArchivedEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuIdState;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuRequestArchiveRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuRequestRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.config.MenuArchiveConfiguration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * <h1>메뉴 보관 처리</h1>
+ * 거절된 지 {@code denied-retention}, 승인된 지 {@code allowed-retention} 이 지난 메뉴와 그 투표를
+ * menu_request_archive, vote_archive 로 옮깁니다<br/>
+ * 청크마다 INSERT ... SELECT 두 번과 DELETE 세 번(투표, 메뉴, 투표 추이)을 한 트랜잭션으로 실행하므로 중간에 멈춰도 양쪽에 나뉘어 남지 않습니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "menu.archive", name = "enabled", havingValue = "true")
+public class MenuArchiver {
+
+    private final MenuArchiveConfiguration menuArchiveConfiguration;
+    private final MenuRequestRepository menuRequestRepository;
+    private final MenuRequestArchiveRepository menuRequestArchiveRepository;
+    private final VoteTimelineStore voteTimelineStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${menu.archive.cron:0 0 4 * * *}")
+    public void archive() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime deniedBefore = now.minus(menuArchiveConfiguration.getDeniedRetention());
+        LocalDateTime allowedBefore = now.minus(menuArchiveConfiguration.getAllowedRetention());
+        int chunkSize = menuArchiveConfiguration.getChunkSize();
+
+        int total = 0;
+        Integer archived;
+        do {
+            archived = transactionTemplate.execute(status -> archiveChunk(deniedBefore, allowedBefore, chunkSize, now));
+            total += (archived == null) ? 0 : archived;
+        } while (archived != null && archived == chunkSize);
+
+        if (total > 0) log.info("archived {} menu requests", total);
+    }
+
+    private int archiveChunk(LocalDateTime deniedBefore, LocalDateTime allowedBefore, int chunkSize, LocalDateTime now) {
+        List<MenuIdState> menus = menuRequestRepository.findArchivable(
+                MenuState.DENIED, deniedBefore, MenuState.ALLOWED, allowedBefore, PageRequest.of(0, chunkSize));
+        if (menus.isEmpty()) return 0;
+
+        List<Long> ids = menus.stream().map(MenuIdState::getId).collect(Collectors.toList());
+        // 투표 수를 함께 계산해야 하므로 메뉴를 먼저 복사하고, 외래키 때문에 투표를 먼저 지웁니다
+        menuRequestArchiveRepository.copyMenus(ids, now);
+        menuRequestArchiveRepository.copyVotes(ids, now);
+        menuRequestArchiveRepository.deleteVotes(ids);
+        menuRequestArchiveRepository.deleteMenus(ids);
+        // 보관된 메뉴의 투표 추이도 같은 트랜잭션에서 지웁니다
+        voteTimelineStore.retire(ids);
+
+        Map<Long, MenuArchivedEvent.Archived> archived = new LinkedHashMap<>();
+        menus.forEach(menu -> archived.put(menu.getId(), new MenuArchivedEvent.Archived(menu.getMenuCategory(), menu.getState())));
+        eventPublisher.publishEvent(new MenuArchivedEvent(archived));
+        return menus.size();
+    }
+}
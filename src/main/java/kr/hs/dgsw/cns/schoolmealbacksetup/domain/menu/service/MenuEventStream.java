@@ -0,0 +1,180 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuStateEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuVoteEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.MenuDeltaDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * <h1>메뉴 변경 스트림</h1>
+ * 커밋된 투표/상태 변경을 메뉴별로 모아 두었다가 tick 마다 한 번씩 SSE 구독자에게 전송합니다<br/>
+ * 투표가 몰려도 메뉴당 tick 당 하나의 갱신만 나가며, 구독은 서블릿 비동기 요청이므로 연결마다 스레드를 점유하지 않습니다<br/>
+ * 전송은 전용 스레드에서 하므로 느린 구독자가 다른 {@code @Scheduled} 작업을 막지 않고,
+ * 이전 전송이 끝나지 않았으면 다음 tick 은 건너뛰어 변경이 계속 합쳐집니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MenuEventStream {
+
+    private static final String EVENT_NAME = "menu-delta";
+    private static final String HEARTBEAT = "heartbeat";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${menu.stream.timeout:1800000}")
+    private long timeout;
+
+    private final Set<SseEmitter> emitters = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Delta> deltas = new ConcurrentHashMap<>();
+
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "menu-stream-sender");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean sending = new AtomicBoolean();
+
+    public SseEmitter subscribe() {
+        return register(new SseEmitter(timeout));
+    }
+
+    /**
+     * 만들어진 emitter 를 구독자로 등록합니다<br/>
+     * 완료/시간 초과/오류 시 자동으로 구독이 해제됩니다
+     * @param emitter 등록할 emitter
+     * @return 등록된 emitter
+     */
+    public SseEmitter register(SseEmitter emitter) {
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(ex -> emitters.remove(emitter));
+        emitters.add(emitter);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVote(MenuVoteEvent event) {
+        deltas.compute(event.getMenuId(), (id, delta) -> (delta == null ? new Delta() : delta).addVotes(event.getDelta()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStateChanged(MenuStateEvent event) {
+        event.getStates().forEach((menuId, state) ->
+                deltas.compute(menuId, (id, delta) -> (delta == null ? new Delta() : delta).state(state)));
+    }
+
+    @Scheduled(fixedRateString = "${menu.stream.tick:1000}")
+    public void tick() {
+        if (deltas.isEmpty()) return;
+        // 이전 전송이 아직 진행 중이면 이번 변경은 다음 tick 에 합쳐서 보냅니다
+        if (!sending.compareAndSet(false, true)) return;
+
+        List<MenuDeltaDto> changes = new ArrayList<>();
+        for (Long menuId : deltas.keySet()) {
+            Delta delta = deltas.remove(menuId);
+            if (delta != null) changes.add(delta.toDto(menuId));
+        }
+        if (emitters.isEmpty()) {
+            sending.set(false);
+            return;
+        }
+
+        String payload;
+        try {
+            // 구독자 수와 관계없이 직렬화는 한 번만 합니다
+            payload = objectMapper.writeValueAsString(changes);
+        } catch (JsonProcessingException ex) {
+            log.error("Failed to serialize menu deltas", ex);
+            sending.set(false);
+            return;
+        }
+
+        dispatch(() -> SseEmitter.event()
+                .name(EVENT_NAME)
+                .data(payload, MediaType.APPLICATION_JSON));
+    }
+
+    /**
+     * 변경이 없어도 주기적으로 SSE 주석을 보내 프록시의 유휴 연결 종료를 막고, 끊어진 구독자를 정리합니다
+     */
+    @Scheduled(fixedRateString = "${menu.stream.heartbeat:15000}")
+    public void heartbeat() {
+        if (emitters.isEmpty() || !sending.compareAndSet(false, true)) return;
+        dispatch(() -> SseEmitter.event().comment(HEARTBEAT));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    // sending 을 선점한 호출자만 들어오며, 전송이 끝나면 선점을 풉니다
+    private void dispatch(Supplier<SseEmitter.SseEventBuilder> event) {
+        try {
+            sender.execute(() -> {
+                try {
+                    for (SseEmitter emitter : emitters) {
+                        send(emitter, event.get());
+                    }
+                } finally {
+                    sending.set(false);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            sending.set(false);
+        }
+    }
+
+    private void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException ex) {
+            emitters.remove(emitter);
+            emitter.completeWithError(ex);
+        }
+    }
+
+    // compute/remove 가 같은 키의 bin lock 안에서 실행되므로 별도의 동기화가 필요 없습니다
+    private static class Delta {
+        private int votes;
+        private MenuState state;
+
+        private Delta addVotes(int delta) {
+            this.votes += delta;
+            return this;
+        }
+
+        private Delta state(MenuState state) {
+            this.state = state;
+            return this;
+        }
+
+        private MenuDeltaDto toDto(long menuId) {
+            return new MenuDeltaDto(menuId, votes, state);
+        }
+    }
+}
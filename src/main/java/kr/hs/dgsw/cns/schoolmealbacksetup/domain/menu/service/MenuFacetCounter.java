@@ -0,0 +1,87 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuArchivedEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuCreatedEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuStateEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuFacetCount;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuRequestRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.util.RebuildableState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <h1>분류 x 상태별 메뉴 수</h1>
+ * (분류 수 x 상태 수) 크기의 원자적 카운터 배열을 유지합니다. 보관 처리된 메뉴는 세지 않습니다<br/>
+ * 시작 시 GROUP BY 한 번으로 채우고, 이후에는 커밋된 생성/상태 변경 이벤트로 칸을 옮기므로
+ * 목록 화면마다 집계 쿼리를 실행하지 않습니다<br/>
+ * 재구성은 새 배열을 따로 채운 뒤 교체하므로 재구성 중에도 이전 수가 그대로 조회됩니다
+ */
+@Component
+@RequiredArgsConstructor
+public class MenuFacetCounter {
+
+    private static final MenuCategory[] CATEGORIES = MenuCategory.values();
+    private static final MenuState[] STATES = MenuState.values();
+
+    private final MenuRequestRepository menuRequestRepository;
+
+    private final RebuildableState<AtomicLongArray> counts = new RebuildableState<>(newCounts());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        counts.rebuild(() -> {
+            AtomicLongArray fresh = newCounts();
+            for (MenuFacetCount count : menuRequestRepository.countByCategoryAndState()) {
+                fresh.addAndGet(cell(count.getMenuCategory(), count.getState()), count.getMenus());
+            }
+            return fresh;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreated(MenuCreatedEvent event) {
+        counts.update(current -> current.incrementAndGet(cell(event.getMenuCategory(), MenuState.STANDBY)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStateChanged(MenuStateEvent event) {
+        counts.update(current -> event.getChanges().values().forEach(change -> {
+            current.decrementAndGet(cell(change.getCategory(), change.getPrevious()));
+            current.incrementAndGet(cell(change.getCategory(), change.getState()));
+        }));
+    }
+
+    @TransactionalEventListener
+    public void onArchived(MenuArchivedEvent event) {
+        counts.update(current -> event.getMenus().values()
+                .forEach(menu -> current.decrementAndGet(cell(menu.getCategory(), menu.getState()))));
+    }
+
+    public Map<MenuCategory, Map<MenuState, Long>> snapshot() {
+        AtomicLongArray counts = this.counts.get();
+        Map<MenuCategory, Map<MenuState, Long>> snapshot = new EnumMap<>(MenuCategory.class);
+        for (MenuCategory category : CATEGORIES) {
+            Map<MenuState, Long> byState = new EnumMap<>(MenuState.class);
+            for (MenuState state : STATES) byState.put(state, counts.get(cell(category, state)));
+            snapshot.put(category, byState);
+        }
+        return snapshot;
+    }
+
+    private static AtomicLongArray newCounts() {
+        return new AtomicLongArray(CATEGORIES.length * STATES.length);
+    }
+
+    private static int cell(MenuCategory category, MenuState state) {
+        return category.ordinal() * STATES.length + state.ordinal();
+    }
+}
@@ -0,0 +1,122 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuCreatedEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuStateEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuVoteEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.RankedMenuDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuRequestRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuVoteCount;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.util.RebuildableState;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * <h1>대기중인 메뉴 투표 순위</h1>
+ * (투표 수 내림차순, id 오름차순)으로 정렬된 skip-list 를 메모리에 유지합니다<br/>
+ * 시작 시 한 번 DB 에서 재구성하고, 이후에는 커밋된 투표/상태 변경 이벤트로 갱신하므로
+ * 상위 N 개 조회는 DB 접근 없이 O(N) 입니다<br/>
+ * 재구성은 새 순위를 따로 만든 뒤 교체하므로 재구성 중에도 이전 순위가 그대로 조회됩니다
+ */
+@Component
+@RequiredArgsConstructor
+public class MenuLeaderboard {
+
+    private final MenuRequestRepository menuRequestRepository;
+
+    private final RebuildableState<Board> board = new RebuildableState<>(new Board());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        board.rebuild(() -> {
+            Board fresh = new Board();
+            for (MenuVoteCount count : menuRequestRepository.countVotesByState(MenuState.STANDBY)) {
+                Entry entry = new Entry(count.getId(), count.getMenuName(), count.getVotes());
+                fresh.entries.put(entry.id, entry);
+                fresh.ranking.add(entry);
+            }
+            return fresh;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreated(MenuCreatedEvent event) {
+        board.update(current -> current.entries.compute(event.getMenuId(),
+                (id, old) -> current.replace(old, new Entry(id, event.getMenuName(), 0))));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVote(MenuVoteEvent event) {
+        // 순위에 없는 메뉴(대기중이 아닌 메뉴)는 무시합니다
+        board.update(current -> current.entries.computeIfPresent(event.getMenuId(),
+                (id, old) -> current.replace(old, new Entry(id, old.menuName, old.votes + event.getDelta()))));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStateChanged(MenuStateEvent event) {
+        board.update(current -> event.getStates().forEach((menuId, state) -> {
+            if (state != MenuState.STANDBY) current.entries.computeIfPresent(menuId, (id, old) -> current.replace(old, null));
+        }));
+    }
+
+    public List<RankedMenuDto> top(int size) {
+        List<RankedMenuDto> result = new ArrayList<>(size);
+        // 갱신 중인 메뉴는 잠시 이전/새 항목이 함께 있으므로 먼저 나온 항목만 사용합니다
+        Set<Long> seen = new HashSet<>();
+        Iterator<Entry> iterator = board.get().ranking.iterator();
+        while (iterator.hasNext() && result.size() < size) {
+            Entry entry = iterator.next();
+            if (!seen.add(entry.id)) continue;
+            result.add(new RankedMenuDto(result.size() + 1, entry.id, entry.menuName, entry.votes));
+        }
+        return result;
+    }
+
+    private static class Board {
+        private final ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>();
+        private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+        // 같은 키의 compute 안에서만 호출되므로 한 메뉴의 갱신은 직렬화됩니다
+        // 새 항목을 먼저 넣고 이전 항목을 빼서, 동시에 조회해도 메뉴가 순위에서 빠져 보이지 않습니다
+        private Entry replace(Entry old, Entry updated) {
+            // 순위가 같은 항목은 set 에 함께 들어갈 수 없으므로 이름이 바뀐 경우에만 빼고 다시 넣습니다
+            if (old != null && updated != null && old.compareTo(updated) == 0) {
+                if (!Objects.equals(old.menuName, updated.menuName)) {
+                    ranking.remove(old);
+                    ranking.add(updated);
+                }
+                return updated;
+            }
+            if (updated != null) ranking.add(updated);
+            if (old != null) ranking.remove(old);
+            return updated;
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Entry implements Comparable<Entry> {
+        private final long id;
+        private final String menuName;
+        private final long votes;
+
+        @Override
+        public int compareTo(Entry other) {
+            int byVotes = Long.compare(other.votes, this.votes);
+            return (byVotes != 0) ? byVotes : Long.compare(this.id, other.id);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuArchivedEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuCreatedEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuRequestRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuText;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.util.NGramTokenizer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * <h1>메뉴 검색 역색인</h1>
+ * 메뉴 이름과 내용을 음절 1~3-gram 으로 나눠 (gram -> 메뉴 id -> 가중 빈도) 역색인을 메모리에 유지합니다<br/>
+ * 시작 시 id 순서로 나눠 읽어 재구성하고, 이후에는 커밋된 메뉴 생성/보관 이벤트로 갱신하므로
+ * 검색 시에는 DB 를 훑지 않고 결과 페이지의 id 만 PK 로 조회합니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MenuSearchIndex {
+
+    private static final int MAX_GRAM = 3;
+    private static final int NAME_WEIGHT = 3;
+    private static final int MAX_QUERY_LENGTH = 50;
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final MenuRequestRepository menuRequestRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Set<String>> documents = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+
+            long lastId = 0;
+            List<MenuText> chunk;
+            do {
+                chunk = menuRequestRepository.findTextsAfter(lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                for (MenuText text : chunk) {
+                    add(text.getId(), text.getMenuName(), text.getContent());
+                    lastId = text.getId();
+                }
+            } while (chunk.size() == REBUILD_CHUNK_SIZE);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("menu search index rebuilt: {} menus, {} grams", documents.size(), postings.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreated(MenuCreatedEvent event) {
+        lock.writeLock().lock();
+        try {
+            add(event.getMenuId(), event.getMenuName(), event.getContent());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onArchived(MenuArchivedEvent event) {
+        lock.writeLock().lock();
+        try {
+            event.getMenus().keySet().forEach(this::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 질의의 2-gram 중 절반 이상이 일치하는 메뉴를 (일치 2-gram 수, tf-idf 점수, 최신순)으로 정렬해 반환합니다<br/>
+     * 3-gram 은 일치 조건에는 쓰지 않고 연속으로 일치하는 메뉴의 점수를 올리는 데만 사용합니다
+     */
+    public Result search(String query, int page, int size) {
+        String trimmed = (query == null) ? "" : query.strip();
+        if (trimmed.length() > MAX_QUERY_LENGTH) trimmed = trimmed.substring(0, MAX_QUERY_LENGTH);
+        Set<String> queryGrams = new LinkedHashSet<>(NGramTokenizer.tokenize(trimmed, 2, MAX_GRAM));
+        if (queryGrams.isEmpty()) return new Result(0, Collections.emptyList());
+
+        Map<Long, Score> scores = new HashMap<>();
+        int baseGrams = 0;
+        lock.readLock().lock();
+        try {
+            int total = documents.size();
+            for (String gram : queryGrams) {
+                boolean base = gram.length() <= 2;
+                if (base) baseGrams++;
+
+                Map<Long, Integer> posting = postings.get(gram);
+                if (posting == null) continue;
+
+                double idf = Math.log(1.0 + (double) total / posting.size());
+                posting.forEach((menuId, frequency) ->
+                        scores.computeIfAbsent(menuId, Score::new).add(base, frequency * idf));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int required = Math.max(1, (baseGrams + 1) / 2);
+        List<Score> ranked = new ArrayList<>();
+        for (Score score : scores.values()) {
+            if (score.matched >= required) ranked.add(score);
+        }
+        ranked.sort(Comparator.comparingInt((Score score) -> score.matched).reversed()
+                .thenComparing(Comparator.comparingDouble((Score score) -> score.score).reversed())
+                .thenComparing(Comparator.comparingLong((Score score) -> score.menuId).reversed()));
+
+        int from = (int) Math.min((long) page * size, ranked.size());
+        int to = Math.min(from + size, ranked.size());
+        List<Long> ids = new ArrayList<>(to - from);
+        for (Score score : ranked.subList(from, to)) ids.add(score.menuId);
+        return new Result(ranked.size(), ids);
+    }
+
+    // 쓰기 락을 잡은 상태에서만 호출됩니다
+    private void add(long menuId, String menuName, String content) {
+        if (documents.containsKey(menuId)) return;
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String gram : NGramTokenizer.tokenize(menuName, 1, MAX_GRAM)) frequencies.merge(gram, NAME_WEIGHT, Integer::sum);
+        for (String gram : NGramTokenizer.tokenize(content, 1, MAX_GRAM)) frequencies.merge(gram, 1, Integer::sum);
+
+        frequencies.forEach((gram, frequency) -> postings.computeIfAbsent(gram, key -> new HashMap<>()).put(menuId, frequency));
+        documents.put(menuId, new HashSet<>(frequencies.keySet()));
+    }
+
+    // 쓰기 락을 잡은 상태에서만 호출됩니다
+    private void remove(long menuId) {
+        Set<String> grams = documents.remove(menuId);
+        if (grams == null) return;
+        for (String gram : grams) {
+            Map<Long, Integer> posting = postings.get(gram);
+            posting.remove(menuId);
+            if (posting.isEmpty()) postings.remove(gram);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private final int total;
+        private final List<Long> menuIds;
+    }
+
+    private static class Score {
+        private final long menuId;
+        private int matched;
+        private double score;
+
+        private Score(long menuId) {
+            this.menuId = menuId;
+        }
+
+        private void add(boolean base, double value) {
+            if (base) matched++;
+            score += value;
+        }
+    }
+}
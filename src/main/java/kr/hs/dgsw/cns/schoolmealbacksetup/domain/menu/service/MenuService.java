@@ -1,13 +1,23 @@
 package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service;
 
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.request.MenuBulkStateDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.request.MenuCreationDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.request.MenuSelectionType;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.MenuBulkStateResultDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.MenuDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.MenuFacetDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.MenuLeaderboardDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.MenuListDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.request.MenuStateDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.PlannerDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.SimilarMenuListDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.VoteTimelineDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.User;
 import kr.hs.dgsw.cns.schoolmealbacksetup.global.infra.neis.MealPlannerInfra;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * <h1>메뉴 Service Interface</h1>
@@ -21,15 +31,18 @@ public interface MenuService {
      * 0보다 작은 경우, 예외가 발생합니다
      * @param page 메뉴 page
      * @param selectionType 원하는 타입
+     * @param category 메뉴 분류 (null 인 경우 모든 분류)
+     * @param archived true 인 경우 보관 테이블에서 조회합니다
      * @return {@link MenuListDto}
      * @throws kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.MenuRequest.PageCannotNegative
      * page 파라미터가 음수인 경우 발생합니다
      */
-    MenuListDto findAllMenus(int page, MenuSelectionType selectionType);
+    MenuListDto findAllMenus(int page, MenuSelectionType selectionType, MenuCategory category, boolean archived);
 
     /**
      * <h2>메뉴 추가하기</h2>
-     * 메뉴 생성 dto 필드를 사용하여 메뉴를 추가합니다
+     * 메뉴 생성 dto 필드를 사용하여 메뉴를 추가합니다<br/>
+     * 이미 대기중인 비슷한 메뉴가 있으면 응답의 {@code similar}에 함께 담깁니다
      * @param menuCreationDto 메뉴 생성 DTO
      * @param user 작성자
      * @see MenuCreationDto
@@ -87,6 +100,18 @@ public interface MenuService {
      */
     MenuDto updateState(User user, long menuId, MenuStateDto menuStateDto);
 
+    /**
+     * <h2>메뉴 상태 일괄 설정</h2>
+     * 여러 메뉴의 상태를 한 트랜잭션에서 설정합니다<br/>
+     * (읽은 상태, 대상 상태) 쌍마다 UPDATE 한 번씩 실행하며, 변경 이벤트는 일괄 단위로 한 번만 발행됩니다<br/>
+     * 그 사이 다른 요청이 상태를 바꾼 메뉴가 있으면 전체를 되돌리고 다시 시도하며, 계속 충돌하면 409 로 응답합니다
+     * @apiNote {@code user}는 반드시 선생님 권한이 요구됩니다.
+     * @param user 메뉴 상태 설정자
+     * @param menuBulkStateDto 메뉴 id 와 boolean 형태의 상태 목록
+     * @return 메뉴 id 별 처리 결과 {@link MenuBulkStateResultDto}
+     */
+    MenuBulkStateResultDto updateStates(User user, MenuBulkStateDto menuBulkStateDto);
+
     /**
      * <h2>식단표 조회</h2>
      * @param year 가져올 년도
@@ -97,4 +122,68 @@ public interface MenuService {
      * @return PlannerDto
      */
     PlannerDto getMenuPlanner(int year, int month, int day);
+
+    /**
+     * <h2>메뉴 변경 구독</h2>
+     * 대기중인 메뉴의 투표 수 변화량과 상태 변경을 Server-Sent Events 로 전달합니다<br/>
+     * 메뉴별 변경은 tick 마다 하나로 합쳐져 {@code menu-delta} 이벤트로 전송됩니다
+     * @return SseEmitter
+     * @see kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.MenuDeltaDto
+     */
+    SseEmitter subscribeMenuEvents();
+
+    /**
+     * <h2>투표 순위 조회</h2>
+     * 대기중인 메뉴를 투표 수가 많은 순으로 최대 {@code size}개 반환합니다<br/>
+     * 메모리에 유지되는 순위에서 읽으므로 DB 에 접근하지 않습니다
+     * @param size 가져올 개수 (1 ~ 100 범위로 보정됩니다)
+     * @return {@link MenuLeaderboardDto}
+     */
+    MenuLeaderboardDto getLeaderboard(int size);
+
+    /**
+     * <h2>분류별 메뉴 수 조회</h2>
+     * 분류 x 상태별 메뉴 수를 반환합니다<br/>
+     * 메모리에 유지되는 카운터에서 읽으므로 집계 쿼리를 실행하지 않습니다
+     * @return {@link MenuFacetDto}
+     */
+    MenuFacetDto getFacets();
+
+    /**
+     * <h2>비슷한 메뉴 조회</h2>
+     * 메뉴를 추가하기 전에, 이름이 비슷한 대기중인 메뉴를 유사도 순으로 최대 5개 반환합니다
+     * @param menuName 추가하려는 메뉴 이름
+     * @return {@link SimilarMenuListDto}
+     */
+    SimilarMenuListDto findSimilarMenus(String menuName);
+
+    /**
+     * <h2>메뉴 검색</h2>
+     * 메뉴 이름과 내용에서 {@code query}를 음절 n-gram 단위로 검색합니다<br/>
+     * 메모리 역색인에서 순위를 매긴 뒤 결과 페이지의 메뉴만 id 로 조회하므로 테이블 전체를 읽지 않습니다
+     * @param query 검색어 (최대 50자까지 사용됩니다)
+     * @param page 결과 page
+     * @return 관련도 순으로 정렬된 {@link MenuListDto}
+     */
+    MenuListDto searchMenus(String query, int page);
+
+    /**
+     * <h2>시간별 투표 추이 조회</h2>
+     * 현재 시간까지 최근 {@code hours}시간의 시간별 투표 증감을 반환합니다<br/>
+     * 메모리의 ring buffer 에서 읽으므로 투표 테이블을 집계하지 않습니다
+     * @param menuId 메뉴 id
+     * @param hours 가져올 시간 수 (1 ~ 336 범위로 보정됩니다)
+     * @return {@link VoteTimelineDto}
+     */
+    VoteTimelineDto getVoteTimeline(long menuId, int hours);
+
+    /**
+     * <h2>투표 내보내기 (관리자)</h2>
+     * 투표한 사용자 id 와 메뉴 정보를 한 행씩 응답에 바로 씁니다<br/>
+     * DB 커서로 나눠 읽으므로 투표 수와 상관없이 메모리 사용량이 일정합니다
+     * @param format ndjson 또는 csv
+     * @param archived true 인 경우 보관 처리된 투표
+     * @return 파일로 내려받는 {@link StreamingResponseBody}
+     */
+    ResponseEntity<StreamingResponseBody> exportVotes(String format, boolean archived);
 }
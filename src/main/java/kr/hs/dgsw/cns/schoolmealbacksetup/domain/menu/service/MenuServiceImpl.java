@@ -1,51 +1,97 @@
 package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service;
 
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.MenuRequest;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.MenuRequestArchive;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.Vote;
-import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.VoteId;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuCreatedEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuStateEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuVoteEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.request.MenuBulkStateDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.request.MenuCreationDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.request.MenuSelectionType;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.MenuBulkStateResultDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.MenuDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.MenuFacetDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.MenuLeaderboardDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.MenuListDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.request.MenuStateDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.PlannerDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.SimilarMenuDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.SimilarMenuListDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.VoteTimelineDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuIdState;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuRequestArchiveRepository;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuRequestRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.VoteArchiveRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.VoteExportRow;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.VoteRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
-import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.AuthId;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.User;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.facade.UserFacade;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.export.ExportFormat;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.export.StreamingExporter;
 import kr.hs.dgsw.cns.schoolmealbacksetup.global.infra.neis.MealPlannerInfra;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Service(value = "MenuServiceImpl")
 public class MenuServiceImpl implements MenuService {
 
+    private static final int MAX_LEADERBOARD_SIZE = 100;
+    private static final int MENU_PAGE_SIZE = 10;
+    private static final int MAX_SIMILAR_MENUS = 5;
+    private static final String[] VOTE_EXPORT_COLUMNS = { "user_id", "menu_request_id", "menu_name", "menu_category", "state" };
+
     private final UserFacade userFacade;
     private final MenuRequestRepository menuRequestRepository;
+    private final MenuRequestArchiveRepository menuRequestArchiveRepository;
+    private final VoteArchiveRepository voteArchiveRepository;
     private final VoteRepository voteRepository;
+    private final VoteWriter voteWriter;
 
     private final MealPlannerInfra mealPlannerInfra;
 
+    private final MenuEventStream menuEventStream;
+    private final MenuLeaderboard menuLeaderboard;
+    private final MenuSearchIndex menuSearchIndex;
+    private final MenuSimilarityIndex menuSimilarityIndex;
+    private final MenuFacetCounter menuFacetCounter;
+    private final VoteTimelineStore voteTimelineStore;
+    private final StreamingExporter streamingExporter;
+    private final ApplicationEventPublisher eventPublisher;
+
     @Override
     @Transactional(readOnly = true)
-    public MenuListDto findAllMenus(int page, MenuSelectionType selectionType) {
+    public MenuListDto findAllMenus(int page, MenuSelectionType selectionType, MenuCategory category, boolean archived) {
+        if (archived) return findArchivedMenus(page, selectionType, category);
 
         Page<MenuRequest> menuPage;
-        PageRequest pageRequest = PageRequest.of(page, 10, Sort.by("createAt").descending());
+        PageRequest pageRequest = PageRequest.of(page, MENU_PAGE_SIZE, Sort.by("createAt").descending());
 
         if(MenuSelectionType.ACCEPTED_TODAY == selectionType) {
             menuPage = menuRequestRepository.findAllByStateAndAcceptedDate(MenuState.ALLOWED, LocalDateTime.now(), pageRequest);
+        } else if (category != null) {
+            menuPage = menuRequestRepository.findAllByStateAndCategory(selectionType.toEntityType(), category, pageRequest);
         } else {
             menuPage = menuRequestRepository.findAllByState(selectionType.toEntityType(), pageRequest);
         }
@@ -61,9 +107,34 @@ public class MenuServiceImpl implements MenuService {
                 .build();
     }
 
+    private MenuListDto findArchivedMenus(int page, MenuSelectionType selectionType, MenuCategory category) {
+        // 보관된 메뉴는 오래전에 결정된 메뉴이므로 ACCEPTED_TODAY 는 ALLOWED 로 취급합니다
+        MenuState state = (MenuSelectionType.ACCEPTED_TODAY == selectionType) ? MenuState.ALLOWED : selectionType.toEntityType();
+        PageRequest pageRequest = PageRequest.of(page, MENU_PAGE_SIZE, Sort.by("createAt").descending());
+        Page<MenuRequestArchive> menuPage = (category == null)
+                ? menuRequestArchiveRepository.findAllByState(state, pageRequest)
+                : menuRequestArchiveRepository.findAllByStateAndCategory(state, category, pageRequest);
+
+        List<Long> ids = menuPage.stream().map(MenuRequestArchive::getId).collect(Collectors.toList());
+        Set<Long> voted = ids.isEmpty() ? Collections.emptySet()
+                : new HashSet<>(voteArchiveRepository.findVotedMenuRequestIds(userFacade.getCurrentUser().getId(), ids));
+        List<MenuDto> menuDtos = menuPage.stream()
+                .map(it -> new MenuDto(it, voted.contains(it.getId())))
+                .collect(Collectors.toList());
+
+        return MenuListDto.builder()
+                .page(page)
+                .pageCount(menuPage.getTotalPages())
+                .result(menuDtos)
+                .build();
+    }
+
     @Override
     @Transactional
     public MenuDto addMenu(User user, MenuCreationDto menuCreationDto) {
+        // 저장 전에 조회하므로 자기 자신은 결과에 포함되지 않습니다
+        List<SimilarMenuDto> similar = menuSimilarityIndex.findSimilar(menuCreationDto.getMenuName(), MAX_SIMILAR_MENUS);
+
         MenuRequest menuRequest = MenuRequest.builder()
                 .user(user)
                 .menuName(menuCreationDto.getMenuName())
@@ -73,7 +144,9 @@ public class MenuServiceImpl implements MenuService {
                 .build();
 
         MenuRequest savedRequest = menuRequestRepository.save(menuRequest);
-        return new MenuDto(savedRequest, userFacade.getCurrentUser());
+        eventPublisher.publishEvent(new MenuCreatedEvent(savedRequest.getId(),
+                savedRequest.getMenuName(), savedRequest.getContent(), savedRequest.getMenuCategory()));
+        return new MenuDto(savedRequest, userFacade.getCurrentUser(), similar);
     }
 
     @Override
@@ -86,55 +159,175 @@ public class MenuServiceImpl implements MenuService {
 
     @Override
     @Transactional
+    @Retryable(value = OptimisticLockingFailureException.class,
+            maxAttemptsExpression = "${menu.optimistic-retry.max-attempts:3}",
+            backoff = @Backoff(delayExpression = "${menu.optimistic-retry.delay:20}", multiplier = 2, random = true))
     public void addVote(User user, long menuId) {
-        MenuRequest menuRequest = menuRequestRepository.findById(menuId)
-                .orElseThrow(() -> new MenuRequest.CannotFound(menuId));
-
-        if(menuRequest.getState() != MenuState.STANDBY) throw new Vote.NotVotable();
-
-        if (voteRepository.existsByIdIdUser(user)) {
-            // 존재한다면 이미 투표되었다고 409 예외 발생
-            throw new Vote.AlreadyVoted();
-        }
-        VoteId voteId = new VoteId(new AuthId(user));
-
-        Vote vote = Vote.builder()
-                .id(voteId)
-                .menuRequest(menuRequest)
-                .build();
-
-        menuRequest.addVote(vote);
+        verifyVotable(menuId);
+        voteWriter.addVote(user.getId(), menuId);
+        eventPublisher.publishEvent(new MenuVoteEvent(menuId, 1));
     }
 
     @Override
     @Transactional
+    @Retryable(value = OptimisticLockingFailureException.class,
+            maxAttemptsExpression = "${menu.optimistic-retry.max-attempts:3}",
+            backoff = @Backoff(delayExpression = "${menu.optimistic-retry.delay:20}", multiplier = 2, random = true))
     public void cancelVote(User user, long menuId) {
-        MenuRequest menuRequest = menuRequestRepository.findById(menuId)
-                .orElseThrow(() -> new MenuRequest.CannotFound(menuId));
-        if(menuRequest.getState() != MenuState.STANDBY) throw new Vote.NotVotable();
-
-        Vote vote = voteRepository.findByIdIdUserAndMenuRequest(user, menuRequest)
-                        .orElseThrow(Vote.NeverVoted::new);
-
-        menuRequest.removeVote(vote);
-        voteRepository.delete(vote);
+        verifyVotable(menuId);
+        voteWriter.cancelVote(user.getId(), menuId);
+        eventPublisher.publishEvent(new MenuVoteEvent(menuId, -1));
     }
 
     @Override
     @Transactional
+    @Retryable(value = OptimisticLockingFailureException.class,
+            maxAttemptsExpression = "${menu.optimistic-retry.max-attempts:3}",
+            backoff = @Backoff(delayExpression = "${menu.optimistic-retry.delay:20}", multiplier = 2, random = true))
     public MenuDto updateState(User user, long menuId, MenuStateDto menuStateDto) {
         MenuRequest menuRequest = menuRequestRepository.findById(menuId)
                 .orElseThrow(() -> new MenuRequest.CannotFound(menuId));
-        menuRequest.setMenuState(convertFrom(menuStateDto));
+        MenuState previous = menuRequest.getState();
+        MenuState target = convertFrom(menuStateDto);
+        if (previous != target) {
+            voteWriter.evict(menuId);
+            menuRequest.setMenuState(target);
+            eventPublisher.publishEvent(MenuStateEvent.of(menuId, menuRequest.getMenuCategory(), previous, target));
+        }
 
         return new MenuDto(menuRequest, userFacade.getCurrentUser());
     }
 
+    @Override
+    @Transactional
+    @Retryable(value = OptimisticLockingFailureException.class,
+            maxAttemptsExpression = "${menu.optimistic-retry.max-attempts:3}",
+            backoff = @Backoff(delayExpression = "${menu.optimistic-retry.delay:20}", multiplier = 2, random = true))
+    public MenuBulkStateResultDto updateStates(User user, MenuBulkStateDto menuBulkStateDto) {
+        // 같은 id 가 여러 번 오면 마지막 결정을 따릅니다
+        Map<Long, MenuState> targets = new LinkedHashMap<>();
+        for (MenuBulkStateDto.Item item : menuBulkStateDto.getMenus()) {
+            targets.put(item.getId(), item.isAccepted() ? MenuState.ALLOWED : MenuState.DENIED);
+        }
+
+        Map<Long, MenuIdState> currents = menuRequestRepository.findStatesByIdIn(targets.keySet()).stream()
+                .collect(Collectors.toMap(MenuIdState::getId, it -> it));
+
+        // 읽은 상태 -> 바꿀 상태 -> id 목록
+        Map<MenuState, Map<MenuState, List<Long>>> idsByTransition = new EnumMap<>(MenuState.class);
+        Map<Long, MenuStateEvent.Change> changed = new LinkedHashMap<>();
+        List<MenuBulkStateResultDto.Result> results = new ArrayList<>(targets.size());
+        targets.forEach((menuId, target) -> {
+            MenuIdState found = currents.get(menuId);
+            MenuState current = (found == null) ? null : found.getState();
+            if (current == null) {
+                results.add(new MenuBulkStateResultDto.Result(menuId, MenuBulkStateResultDto.Status.NOT_FOUND, null));
+            } else if (current == target) {
+                results.add(new MenuBulkStateResultDto.Result(menuId, MenuBulkStateResultDto.Status.UNCHANGED, current));
+            } else {
+                idsByTransition.computeIfAbsent(current, state -> new EnumMap<>(MenuState.class))
+                        .computeIfAbsent(target, state -> new ArrayList<>()).add(menuId);
+                changed.put(menuId, new MenuStateEvent.Change(found.getMenuCategory(), current, target));
+                results.add(new MenuBulkStateResultDto.Result(menuId, MenuBulkStateResultDto.Status.UPDATED, target));
+            }
+        });
+
+        changed.keySet().forEach(voteWriter::evict);
+
+        // (읽은 상태, 바꿀 상태) 쌍마다 UPDATE 한 번씩, 읽은 상태 그대로인 메뉴만 바꿉니다
+        // 바뀐 수가 모자라면 읽은 뒤 다른 요청이 상태를 바꾼 것이므로 전체를 되돌리고 새로 읽어 다시 시도합니다
+        LocalDateTime now = LocalDateTime.now();
+        idsByTransition.forEach((expected, idsByTarget) -> idsByTarget.forEach((target, ids) -> {
+            int updated = menuRequestRepository.updateStateByIdInAndState(target, now, ids, expected);
+            if (updated != ids.size()) {
+                throw new OptimisticLockingFailureException("Menu states changed concurrently: " + ids + " (expected " + expected + ")");
+            }
+        }));
+
+        if (!changed.isEmpty()) eventPublisher.publishEvent(new MenuStateEvent(changed));
+        return new MenuBulkStateResultDto(results);
+    }
+
     @Override
     public PlannerDto getMenuPlanner(int year, int month, int day) {
         return new PlannerDto(mealPlannerInfra.getMealsOfDate(year, month, day));
     }
 
+    @Override
+    public SseEmitter subscribeMenuEvents() {
+        return menuEventStream.subscribe();
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportVotes(String format, boolean archived) {
+        Supplier<Stream<VoteExportRow>> rows = archived
+                ? voteArchiveRepository::streamAllForExport
+                : voteRepository::streamAllForExport;
+        return streamingExporter.export(archived ? "votes-archived" : "votes", ExportFormat.of(format), VOTE_EXPORT_COLUMNS, rows,
+                row -> new Object[] { row.getUserId(), row.getMenuRequestId(), row.getMenuName(), row.getMenuCategory(), row.getState() });
+    }
+
+    @Override
+    public MenuLeaderboardDto getLeaderboard(int size) {
+        int limit = Math.max(1, Math.min(size, MAX_LEADERBOARD_SIZE));
+        return new MenuLeaderboardDto(menuLeaderboard.top(limit));
+    }
+
+    @Override
+    public MenuFacetDto getFacets() {
+        return new MenuFacetDto(menuFacetCounter.snapshot());
+    }
+
+    @Override
+    public SimilarMenuListDto findSimilarMenus(String menuName) {
+        return new SimilarMenuListDto(menuSimilarityIndex.findSimilar(menuName, MAX_SIMILAR_MENUS));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VoteTimelineDto getVoteTimeline(long menuId, int hours) {
+        int limit = Math.max(1, Math.min(hours, VoteTimelineStore.HOURS));
+        long nowHour = VoteTimelineStore.currentHour();
+        int[] votes = voteTimelineStore.timeline(menuId, limit, nowHour);
+        if (votes == null) {
+            // 최근 투표가 없는 메뉴만 존재 여부를 확인합니다
+            if (!menuRequestRepository.existsById(menuId)) throw new MenuRequest.CannotFound(menuId);
+            votes = new int[limit];
+        }
+        long start = TimeUnit.HOURS.toMillis(nowHour - limit + 1);
+        return new VoteTimelineDto(menuId, start, votes);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MenuListDto searchMenus(String query, int page) {
+        if (page < 0) throw new MenuRequest.PageCannotNegative();
+        MenuSearchIndex.Result searchResult = menuSearchIndex.search(query, page, MENU_PAGE_SIZE);
+
+        // findAllById 는 순서를 보장하지 않으므로 색인의 순위대로 다시 정렬합니다
+        Map<Long, MenuRequest> menus = menuRequestRepository.findAllById(searchResult.getMenuIds()).stream()
+                .collect(Collectors.toMap(MenuRequest::getId, it -> it));
+        // 검색은 로그인하지 않아도 사용할 수 있으므로, 익명 사용자는 투표 여부를 false 로 반환합니다
+        User currentUser = userFacade.findCurrentUser();
+        List<MenuDto> menuDtos = searchResult.getMenuIds().stream()
+                .map(menus::get)
+                .filter(Objects::nonNull)
+                .map(it -> new MenuDto(it, currentUser))
+                .collect(Collectors.toList());
+
+        return MenuListDto.builder()
+                .page(page)
+                .pageCount((searchResult.getTotal() + MENU_PAGE_SIZE - 1) / MENU_PAGE_SIZE)
+                .result(menuDtos)
+                .build();
+    }
+
+    private void verifyVotable(long menuId) {
+        MenuRequest menuRequest = menuRequestRepository.findWithOptimisticLockById(menuId)
+                .orElseThrow(() -> new MenuRequest.CannotFound(menuId));
+        if(menuRequest.getState() != MenuState.STANDBY) throw new Vote.NotVotable();
+    }
+
     private MenuState convertFrom(MenuStateDto menuStateDto) {
         return (menuStateDto.isAccepted()) ? MenuState.ALLOWED : MenuState.DENIED;
     }
@@ -0,0 +1,186 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuCreatedEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuStateEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.SimilarMenuDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuRequestRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuText;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.util.NGramTokenizer;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.util.RebuildableState;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h1>대기중인 메뉴 중복 감지</h1>
+ * 공백/기호를 제거한 메뉴 이름의 음절 2-gram 집합에 MinHash 서명(128개)을 만들고,
+ * 서명 값 하나씩 128개 band 로 나눠 LSH 버킷에 넣습니다<br/>
+ * 같은 버킷에 걸린 후보만 실제 집합으로 포함도(|A∩B| / min(|A|,|B|))를 계산하므로
+ * "마라탕" 과 "마라탕 먹고싶어요" 처럼 한쪽이 다른 쪽을 포함하는 요청도 전체 비교 없이 찾을 수 있습니다<br/>
+ * 포함 관계라도 길이 차이가 크면 Jaccard 유사도는 낮으므로(2-gram 2개짜리 이름이 20개짜리에 포함되면 0.1)
+ * band 를 여러 행으로 묶지 않습니다. 후보가 될 확률은 1-(1-J)^128 이라 Jaccard 0.05 이상이면 99.8% 이상 찾지만,
+ * 그보다 길이 차이가 큰 포함 관계는 놓칠 수 있는 근사 검색입니다<br/>
+ * 재구성은 새 색인을 따로 만든 뒤 교체하므로 재구성 중에도 이전 색인으로 찾고, 그동안 커밋된 추가/삭제는 새 색인에도 반영됩니다
+ */
+@Component
+@RequiredArgsConstructor
+public class MenuSimilarityIndex {
+
+    private static final int HASHES = 128;
+    // 행을 r 개로 묶으면 확률이 1-(1-J^r)^(128/r) 로 떨어집니다 (r=2 이면 J=0.1 에서 약 47%)
+    private static final int ROWS_PER_BAND = 1;
+    private static final int BANDS = HASHES / ROWS_PER_BAND;
+    private static final double CONTAINMENT_THRESHOLD = 0.7;
+
+    // 재시작해도 같은 서명이 나오도록 고정된 seed 를 사용합니다
+    private static final long[] SEEDS = new SplittableRandom(0x5EED_3E4EL).longs(HASHES).toArray();
+
+    private final MenuRequestRepository menuRequestRepository;
+
+    private final RebuildableState<Index> index = new RebuildableState<>(new Index());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        index.rebuild(() -> {
+            Index fresh = new Index();
+            for (MenuText text : menuRequestRepository.findTextsByState(MenuState.STANDBY)) {
+                fresh.add(text.getId(), text.getMenuName());
+            }
+            return fresh;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreated(MenuCreatedEvent event) {
+        index.update(current -> current.add(event.getMenuId(), event.getMenuName()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStateChanged(MenuStateEvent event) {
+        index.update(current -> event.getStates().forEach((menuId, state) -> {
+            if (state != MenuState.STANDBY) current.remove(menuId);
+        }));
+    }
+
+    /**
+     * {@code menuName}과 비슷한 대기중인 메뉴를 유사도 내림차순으로 최대 {@code limit}개 반환합니다
+     */
+    public List<SimilarMenuDto> findSimilar(String menuName, int limit) {
+        Set<String> shingles = shingles(menuName);
+        if (shingles.isEmpty()) return Collections.emptyList();
+
+        Index current = index.get();
+        Set<Long> candidates = new HashSet<>();
+        for (long bucket : bucketKeys(signature(shingles))) {
+            Set<Long> members = current.buckets.get(bucket);
+            if (members != null) candidates.addAll(members);
+        }
+
+        List<SimilarMenuDto> result = new ArrayList<>();
+        for (long candidate : candidates) {
+            Entry entry = current.entries.get(candidate);
+            if (entry == null) continue;
+
+            double containment = containment(shingles, entry.shingles);
+            if (containment >= CONTAINMENT_THRESHOLD) {
+                result.add(new SimilarMenuDto(candidate, entry.menuName, Math.round(containment * 100) / 100.0));
+            }
+        }
+        result.sort(Comparator.comparing(SimilarMenuDto::getSimilarity).reversed()
+                .thenComparing(SimilarMenuDto::getId));
+        return (result.size() > limit) ? result.subList(0, limit) : result;
+    }
+
+    private static Set<String> shingles(String menuName) {
+        return new HashSet<>(NGramTokenizer.tokenize(NGramTokenizer.compact(menuName), 2, 2));
+    }
+
+    private static long[] signature(Set<String> shingles) {
+        long[] signature = new long[HASHES];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (String shingle : shingles) {
+            long base = shingle.hashCode();
+            for (int i = 0; i < HASHES; i++) {
+                long hash = mix(base ^ SEEDS[i]);
+                if (hash < signature[i]) signature[i] = hash;
+            }
+        }
+        return signature;
+    }
+
+    private static long[] bucketKeys(long[] signature) {
+        long[] keys = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long key = band;
+            for (int row = 0; row < ROWS_PER_BAND; row++) {
+                key = mix(key * 31 + signature[band * ROWS_PER_BAND + row]);
+            }
+            keys[band] = key;
+        }
+        return keys;
+    }
+
+    private static double containment(Set<String> a, Set<String> b) {
+        Set<String> smaller = (a.size() <= b.size()) ? a : b;
+        Set<String> larger = (smaller == a) ? b : a;
+        int common = 0;
+        for (String shingle : smaller) {
+            if (larger.contains(shingle)) common++;
+        }
+        return (double) common / smaller.size();
+    }
+
+    // splitmix64 의 마무리 단계
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * 추가/삭제는 여러 번 적용해도 결과가 같으므로 재구성 중의 갱신을 새 색인에 다시 적용해도 됩니다
+     */
+    private static class Index {
+        private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> buckets = new ConcurrentHashMap<>();
+
+        private void add(long menuId, String menuName) {
+            Set<String> shingles = shingles(menuName);
+            if (shingles.isEmpty()) return;
+
+            long[] bucketKeys = bucketKeys(signature(shingles));
+            // 같은 id 에 대한 추가/삭제는 compute 안에서 직렬화됩니다
+            entries.compute(menuId, (id, old) -> {
+                if (old != null) return old;
+                for (long bucket : bucketKeys) buckets.computeIfAbsent(bucket, key -> ConcurrentHashMap.newKeySet()).add(id);
+                return new Entry(menuName, shingles, bucketKeys);
+            });
+        }
+
+        private void remove(long menuId) {
+            entries.computeIfPresent(menuId, (id, old) -> {
+                for (long bucket : old.bucketKeys) {
+                    buckets.computeIfPresent(bucket, (key, members) -> {
+                        members.remove(id);
+                        return members.isEmpty() ? null : members;
+                    });
+                }
+                return null;
+            });
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final String menuName;
+        private final Set<String> shingles;
+        private final long[] bucketKeys;
+    }
+}
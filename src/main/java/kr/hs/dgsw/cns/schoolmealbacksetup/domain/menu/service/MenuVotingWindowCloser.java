@@ -0,0 +1,118 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuStateEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.ExpiredMenu;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuIdVotes;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuRequestRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.VoteRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.batch.BatchCursor;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.batch.BatchCursorRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.config.VotingWindowConfiguration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * <h1>투표 기간 마감</h1>
+ * {@code menu.voting-window.duration} 보다 오래 대기중인 메뉴를 (create_at, id) 순서로 청크 단위로 읽어,
+ * 투표 수가 기준 이상이면 ALLOWED, 아니면 DENIED 로 바꿉니다<br/>
+ * 청크마다 대상 상태별 UPDATE 한 번씩과 진행 위치({@link BatchCursor}) 저장을 한 트랜잭션으로 처리하므로
+ * 재시작해도 처리한 구간을 다시 읽지 않습니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "menu.voting-window", name = "enabled", havingValue = "true")
+public class MenuVotingWindowCloser {
+
+    static final String JOB_NAME = "menu-voting-window";
+
+    private final VotingWindowConfiguration votingWindowConfiguration;
+    private final MenuRequestRepository menuRequestRepository;
+    private final VoteRepository voteRepository;
+    private final BatchCursorRepository batchCursorRepository;
+    private final VoteWriter voteWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${menu.voting-window.check-interval:60000}")
+    public void closeExpired() {
+        LocalDateTime deadline = LocalDateTime.now().minus(votingWindowConfiguration.getDuration());
+        int chunkSize = votingWindowConfiguration.getChunkSize();
+
+        int total = 0;
+        while (true) {
+            BatchCursor cursor = batchCursorRepository.findById(JOB_NAME)
+                    .orElseGet(() -> BatchCursor.beginning(JOB_NAME));
+            List<ExpiredMenu> expired = menuRequestRepository.findExpired(MenuState.STANDBY, deadline,
+                    cursor.getLastTime(), cursor.getLastId(), PageRequest.of(0, chunkSize));
+            if (expired.isEmpty()) break;
+
+            // write-behind 버퍼에 남은 투표를 먼저 저장해야 투표 수가 정확합니다.
+            // 청크 트랜잭션이 되돌려져도 투표가 사라지지 않도록 트랜잭션 밖에서 flush 합니다
+            expired.forEach(menu -> voteWriter.evict(menu.getId()));
+
+            Boolean closed = transactionTemplate.execute(status -> {
+                if (closeChunk(cursor, expired)) return true;
+                status.setRollbackOnly();
+                return false;
+            });
+            if (!Boolean.TRUE.equals(closed)) {
+                // 관리자가 같은 메뉴를 동시에 처리한 경우입니다. 청크 전체를 되돌리고 다음 주기에 다시 읽습니다
+                log.info("voting window chunk conflicted with another state change, retrying next run");
+                break;
+            }
+
+            total += expired.size();
+            if (expired.size() < chunkSize) break;
+        }
+
+        if (total > 0) log.info("closed {} expired menu requests", total);
+    }
+
+    /**
+     * @return 청크 전체를 마감했으면 true, 그 사이 다른 요청이 일부 메뉴의 상태를 바꿨으면 false
+     */
+    private boolean closeChunk(BatchCursor cursor, List<ExpiredMenu> expired) {
+        List<Long> ids = expired.stream().map(ExpiredMenu::getId).collect(Collectors.toList());
+        Map<Long, Long> votes = voteRepository.countByMenuRequestIdIn(ids).stream()
+                .collect(Collectors.toMap(MenuIdVotes::getId, MenuIdVotes::getVotes));
+
+        Map<MenuState, List<Long>> idsByTarget = new EnumMap<>(MenuState.class);
+        Map<Long, MenuStateEvent.Change> changes = new LinkedHashMap<>();
+        for (ExpiredMenu menu : expired) {
+            MenuState target = decide(votes.getOrDefault(menu.getId(), 0L));
+            idsByTarget.computeIfAbsent(target, state -> new ArrayList<>()).add(menu.getId());
+            changes.put(menu.getId(), new MenuStateEvent.Change(menu.getMenuCategory(), MenuState.STANDBY, target));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<MenuState, List<Long>> entry : idsByTarget.entrySet()) {
+            int updated = menuRequestRepository.updateStateByIdInAndState(
+                    entry.getKey(), now, entry.getValue(), MenuState.STANDBY);
+            if (updated != entry.getValue().size()) return false;
+        }
+
+        ExpiredMenu last = expired.get(expired.size() - 1);
+        cursor.advance(last.getCreateAt(), last.getId());
+        batchCursorRepository.save(cursor);
+
+        eventPublisher.publishEvent(new MenuStateEvent(changes));
+        return true;
+    }
+
+    private MenuState decide(long votes) {
+        int threshold = votingWindowConfiguration.getAcceptThreshold();
+        return (threshold > 0 && votes >= threshold) ? MenuState.ALLOWED : MenuState.DENIED;
+    }
+}
@@ -0,0 +1,207 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.VoteTimeline;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuVoteEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.VoteTimelineRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h1>메뉴별 시간 단위 투표 추이</h1>
+ * 메뉴마다 최근 {@link #HOURS}시간을 한 시간 한 칸의 int ring buffer 로 유지합니다<br/>
+ * 커밋된 투표/취소 이벤트로 현재 시간 칸을 갱신하고, 바뀐 메뉴만 주기적으로 vote_timeline 에 저장합니다<br/>
+ * 조회는 메모리에서만 처리하며, 시작 시 저장된 값으로 복원합니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteTimelineStore {
+
+    public static final int HOURS = 24 * 14;
+
+    private final VoteTimelineRepository voteTimelineRepository;
+
+    private final Map<Long, Ring> rings = new ConcurrentHashMap<>();
+    // 보관 처리 트랜잭션이 끝나기 전까지 flush 가 다시 저장하지 않도록 표시해 둔 메뉴
+    private final Set<Long> retiring = ConcurrentHashMap.newKeySet();
+    // flush 의 저장과 retire 의 삭제가 겹치지 않도록 합니다
+    private final Object flushLock = new Object();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rings.clear();
+        for (VoteTimeline timeline : voteTimelineRepository.findAll()) {
+            rings.put(timeline.getMenuRequestId(), Ring.decode(timeline.getLatestHour(), timeline.getBuckets()));
+        }
+        log.info("vote timelines loaded: {} menus", rings.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVote(MenuVoteEvent event) {
+        record(event.getMenuId(), event.getDelta(), currentHour());
+    }
+
+    /**
+     * 보관 처리하는 메뉴의 vote_timeline 을 호출한 트랜잭션 안에서 지웁니다<br/>
+     * 진행 중인 flush 가 끝난 뒤에 지우고 트랜잭션이 끝날 때까지 flush 에서 제외하므로, 지운 행이 다시 저장되지 않습니다<br/>
+     * 메모리의 기록은 커밋된 뒤에만 지웁니다
+     */
+    public void retire(Collection<Long> menuIds) {
+        List<Long> ids = List.copyOf(menuIds);
+        synchronized (flushLock) {
+            retiring.addAll(ids);
+            try {
+                voteTimelineRepository.deleteAllByIdInBatch(ids);
+            } catch (RuntimeException e) {
+                retiring.removeAll(ids);
+                throw e;
+            }
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ids.forEach(rings::remove);
+            retiring.removeAll(ids);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) ids.forEach(rings::remove);
+                retiring.removeAll(ids);
+            }
+        });
+    }
+
+    public void record(long menuId, int delta, long epochHour) {
+        rings.computeIfAbsent(menuId, id -> new Ring(epochHour)).add(epochHour, delta);
+    }
+
+    /**
+     * @param hours 가져올 시간 수 (1 ~ {@link #HOURS})
+     * @return {@code nowHour} 를 마지막 칸으로 하는 {@code hours}개의 시간별 증감, 기록이 없는 메뉴는 null
+     */
+    public int[] timeline(long menuId, int hours, long nowHour) {
+        Ring ring = rings.get(menuId);
+        return (ring == null) ? null : ring.read(nowHour, hours);
+    }
+
+    @Scheduled(fixedDelayString = "${menu.vote-timeline.flush-interval:60000}")
+    public void flush() {
+        synchronized (flushLock) {
+            LocalDateTime now = LocalDateTime.now();
+            List<VoteTimeline> dirty = new ArrayList<>();
+            rings.forEach((menuId, ring) -> {
+                if (retiring.contains(menuId)) return;
+                VoteTimeline timeline = ring.drain(menuId, now);
+                if (timeline != null) dirty.add(timeline);
+            });
+            if (dirty.isEmpty()) return;
+
+            try {
+                voteTimelineRepository.saveAll(dirty);
+            } catch (RuntimeException e) {
+                // 다음 주기에 다시 저장하도록 되돌립니다
+                dirty.forEach(timeline -> {
+                    Ring ring = rings.get(timeline.getMenuRequestId());
+                    if (ring != null) ring.markDirty();
+                });
+                throw e;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public static long currentHour() {
+        return TimeUnit.MILLISECONDS.toHours(System.currentTimeMillis());
+    }
+
+    /**
+     * 칸 번호는 {@code epochHour % HOURS} 이며, 시간이 지나 다시 쓰는 칸은 먼저 0으로 비웁니다
+     */
+    private static class Ring {
+        private final int[] buckets;
+        private long latestHour;
+        private boolean dirty;
+
+        private Ring(long latestHour) {
+            this(latestHour, new int[HOURS]);
+        }
+
+        private Ring(long latestHour, int[] buckets) {
+            this.latestHour = latestHour;
+            this.buckets = buckets;
+        }
+
+        private synchronized void add(long epochHour, int delta) {
+            if (epochHour > latestHour) {
+                long gap = Math.min(epochHour - latestHour, HOURS);
+                for (long hour = epochHour - gap + 1; hour <= epochHour; hour++) buckets[slot(hour)] = 0;
+                latestHour = epochHour;
+            } else if (epochHour <= latestHour - HOURS) {
+                return;
+            }
+            buckets[slot(epochHour)] += delta;
+            dirty = true;
+        }
+
+        private synchronized int[] read(long nowHour, int hours) {
+            int[] result = new int[hours];
+            long first = nowHour - hours + 1;
+            for (int i = 0; i < hours; i++) {
+                long hour = first + i;
+                if (hour <= latestHour && hour > latestHour - HOURS) result[i] = buckets[slot(hour)];
+            }
+            return result;
+        }
+
+        private synchronized VoteTimeline drain(long menuId, LocalDateTime now) {
+            if (!dirty) return null;
+            dirty = false;
+            return new VoteTimeline(menuId, latestHour, encode(), now);
+        }
+
+        private synchronized void markDirty() {
+            dirty = true;
+        }
+
+        private byte[] encode() {
+            ByteBuffer buffer = ByteBuffer.allocate(buckets.length * Integer.BYTES);
+            buffer.asIntBuffer().put(buckets);
+            return buffer.array();
+        }
+
+        private static Ring decode(long latestHour, byte[] bytes) {
+            // HOURS 가 바뀌면 칸 번호도 달라지므로 이전 기록은 버립니다
+            if (bytes.length != HOURS * Integer.BYTES) return new Ring(latestHour);
+            int[] buckets = new int[HOURS];
+            ByteBuffer.wrap(bytes).asIntBuffer().get(buckets);
+            return new Ring(latestHour, buckets);
+        }
+
+        private static int slot(long epochHour) {
+            return (int) Math.floorMod(epochHour, (long) HOURS);
+        }
+    }
+}
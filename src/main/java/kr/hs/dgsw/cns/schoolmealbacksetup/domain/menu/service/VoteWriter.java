@@ -0,0 +1,29 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service;
+
+/**
+ * <h1>투표 저장 전략</h1>
+ * 투표 추가/취소를 실제 저장소에 반영하는 방식을 추상화합니다
+ * @see DirectVoteWriter
+ * @see WriteBehindVoteWriter
+ */
+public interface VoteWriter {
+
+    /**
+     * @throws kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.Vote.AlreadyVoted
+     * 이미 투표한 경우 발생합니다
+     */
+    void addVote(long userId, long menuId);
+
+    /**
+     * @throws kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.Vote.NeverVoted
+     * 투표한 적이 없는 경우 발생합니다
+     */
+    void cancelVote(long userId, long menuId);
+
+    /**
+     * 메뉴 상태가 바뀌는 등 더 이상 투표를 받지 않을 때 호출됩니다<br/>
+     * 버퍼링 중인 투표가 있다면 즉시 반영합니다
+     */
+    default void evict(long menuId) {
+    }
+}
@@ -0,0 +1,233 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.Vote;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.VoteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <h1>Write-behind 투표 버퍼</h1>
+ * 투표를 메뉴별 버퍼(stripe)에 먼저 반영하고 응답한 뒤,
+ * {@code menu.vote.write-behind.flush-interval} 마다 JDBC batch 로 한꺼번에 저장합니다<br/>
+ * 중복 투표 검사는 메뉴별 투표자 집합으로 메모리에서 처리합니다<br/>
+ * 투표자 집합은 바로 바꾸지만 버퍼에는 호출한 트랜잭션이 커밋된 뒤에 넣고, 되돌려지면 투표자 집합도 되돌립니다
+ * (낙관적 락 충돌로 재시도하는 경우 등)<br/>
+ * 한 주기 동안 버퍼가 비어 있고 진행 중인 트랜잭션도 없는 메뉴의 버퍼는 flush 때 내려놓고, 다음 투표 때 DB 에서 다시 읽습니다
+ * @implNote 같은 사용자의 투표/취소가 한 주기 안에 반복되면 마지막 상태만 저장됩니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "menu.vote.write-behind", name = "enabled", havingValue = "true")
+public class WriteBehindVoteWriter implements VoteWriter {
+
+    private static final String INSERT_SQL = "INSERT IGNORE INTO vote (user_id, menu_request_id) VALUES (?, ?)";
+    private static final String DELETE_SQL = "DELETE FROM vote WHERE user_id = ? AND menu_request_id = ?";
+
+    private final VoteRepository voteRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, Stripe> stripes = new ConcurrentHashMap<>();
+    // 커밋되기 전에 메뉴가 evict 되었거나 evict 중 저장에 실패한 투표 (메뉴 id -> 사용자 id -> 투표 여부)
+    private final Map<Long, Map<Long, Boolean>> late = new HashMap<>();
+
+    // 주기적 flush 와 evict 가 같은 메뉴를 동시에 쓰지 않도록 직렬화합니다
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @Override
+    public void addVote(long userId, long menuId) {
+        while (true) {
+            Stripe stripe = stripeOf(menuId);
+            synchronized (stripe) {
+                if (stripe.evicted) continue;
+                if (!stripe.voters.add(userId)) throw new Vote.AlreadyVoted();
+                stripe.inFlight++;
+            }
+            bufferAfterCommit(stripe, menuId, userId, true);
+            return;
+        }
+    }
+
+    @Override
+    public void cancelVote(long userId, long menuId) {
+        while (true) {
+            Stripe stripe = stripeOf(menuId);
+            synchronized (stripe) {
+                if (stripe.evicted) continue;
+                if (!stripe.voters.remove(userId)) throw new Vote.NeverVoted();
+                stripe.inFlight++;
+            }
+            bufferAfterCommit(stripe, menuId, userId, false);
+            return;
+        }
+    }
+
+    @Override
+    public void evict(long menuId) {
+        Stripe stripe = stripes.get(menuId);
+        if (stripe == null) return;
+
+        flushLock.lock();
+        try {
+            Map<Long, Boolean> drained;
+            synchronized (stripe) {
+                drained = stripe.drain();
+                stripe.evicted = true;
+            }
+            stripes.remove(menuId, stripe);
+            write(Map.of(menuId, drained));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${menu.vote.write-behind.flush-interval:300}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Long, Map<Long, Boolean>> drained = new HashMap<>();
+            synchronized (late) {
+                late.forEach((menuId, pending) -> drained.put(menuId, new HashMap<>(pending)));
+                late.clear();
+            }
+            stripes.forEach((menuId, stripe) -> {
+                synchronized (stripe) {
+                    Map<Long, Boolean> pending = stripe.drain();
+                    if (!pending.isEmpty()) {
+                        drained.computeIfAbsent(menuId, id -> new HashMap<>()).putAll(pending);
+                    } else if (stripe.inFlight == 0) {
+                        // 지난 flush 까지 모두 저장되었으므로 내려놓아도 DB 에서 같은 투표자 집합을 다시 읽습니다
+                        stripe.evicted = true;
+                        stripes.remove(menuId, stripe);
+                    }
+                }
+            });
+            write(drained);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("Flushing pending votes before shutdown");
+        flush();
+    }
+
+    // 투표자 조회는 ConcurrentHashMap 의 bin 락을 잡은 채로 하지 않도록 computeIfAbsent 밖에서 합니다
+    private Stripe stripeOf(long menuId) {
+        Stripe stripe = stripes.get(menuId);
+        if (stripe != null) return stripe;
+        Set<Long> voters = new HashSet<>(voteRepository.findUserIdsByMenuRequestId(menuId));
+        return stripes.computeIfAbsent(menuId, id -> new Stripe(voters));
+    }
+
+    private void bufferAfterCommit(Stripe stripe, long menuId, long userId, boolean voted) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            buffer(stripe, menuId, userId, voted);
+            release(stripe);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                buffer(stripe, menuId, userId, voted);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    synchronized (stripe) {
+                        if (voted) stripe.voters.remove(userId);
+                        else stripe.voters.add(userId);
+                    }
+                }
+                release(stripe);
+            }
+        });
+    }
+
+    private void release(Stripe stripe) {
+        synchronized (stripe) {
+            stripe.inFlight--;
+        }
+    }
+
+    private void buffer(Stripe stripe, long menuId, long userId, boolean voted) {
+        synchronized (stripe) {
+            if (!stripe.evicted) {
+                stripe.pending.put(userId, voted);
+                return;
+            }
+        }
+        // 커밋 전에 evict 된 메뉴의 투표는 다음 flush 에서 따로 저장합니다
+        synchronized (late) {
+            late.computeIfAbsent(menuId, id -> new HashMap<>()).put(userId, voted);
+        }
+    }
+
+    private void write(Map<Long, Map<Long, Boolean>> drained) {
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        drained.forEach((menuId, pending) -> pending.forEach((userId, voted) ->
+                (voted ? inserts : deletes).add(new Object[]{userId, menuId})));
+        if (inserts.isEmpty() && deletes.isEmpty()) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!inserts.isEmpty()) jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+                if (!deletes.isEmpty()) jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+            });
+        } catch (DataAccessException ex) {
+            log.error("Failed to flush {} votes, re-queueing", inserts.size() + deletes.size(), ex);
+            // 실패한 사이 새로 들어온 투표가 더 최신이므로 덮어쓰지 않습니다
+            drained.forEach((menuId, pending) -> {
+                Stripe stripe = stripes.get(menuId);
+                if (stripe != null) {
+                    synchronized (stripe) {
+                        if (!stripe.evicted) {
+                            pending.forEach(stripe.pending::putIfAbsent);
+                            return;
+                        }
+                    }
+                }
+                synchronized (late) {
+                    Map<Long, Boolean> target = late.computeIfAbsent(menuId, id -> new HashMap<>());
+                    pending.forEach(target::putIfAbsent);
+                }
+            });
+        }
+    }
+
+    private static class Stripe {
+        private final Set<Long> voters;
+        private Map<Long, Boolean> pending = new HashMap<>();
+        // 투표자 집합은 바꿨지만 아직 버퍼에 넣거나 되돌리지 않은 투표 수
+        private int inFlight;
+        private boolean evicted;
+
+        private Stripe(Set<Long> voters) {
+            this.voters = voters;
+        }
+
+        private Map<Long, Boolean> drain() {
+            Map<Long, Boolean> drained = pending;
+            pending = new HashMap<>();
+            return drained;
+        }
+    }
+}
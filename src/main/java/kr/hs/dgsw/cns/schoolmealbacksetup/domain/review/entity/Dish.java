@@ -0,0 +1,26 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 식단표에 나온 요리 (dish)
+ * 알레르기 표기와 기호를 뗀 이름 하나당 한 행이며, 이름은 unique 제약조건으로 중복 없이 등록됩니다
+ */
+@Getter
+@AllArgsConstructor @NoArgsConstructor
+@Builder
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_dish_name", columnNames = "name"))
+public class Dish {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+}
@@ -2,13 +2,17 @@ package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity;
 
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.ReviewTime;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.User;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.exception.BusinessException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.hibernate.validator.constraints.Length;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.http.HttpStatus;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotNull;
@@ -17,11 +21,23 @@ import java.time.LocalDateTime;
 
 @Getter
 @AllArgsConstructor @NoArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Entity
+@Table(indexes = @Index(name = "idx_review_date_review_time_id", columnList = "date, review_time, id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_review_user_date_review_time",
+                columnNames = { "user_id", "date", "review_time" }))
 public class Review {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 INSERT 마다 생성된 키를 받아야 해서 JDBC batch 가 꺼지므로,
+    // review_id_seq 테이블에서 50개씩 미리 할당받아 (pooled-lo) 여러 INSERT 를 한 batch 로 보냅니다
+    @Id
+    @GeneratedValue(generator = "review_id")
+    @GenericGenerator(name = "review_id", strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator", parameters = {
+            @Parameter(name = "sequence_name", value = "review_id_seq"),
+            @Parameter(name = "force_table_use", value = "true"),
+            @Parameter(name = "increment_size", value = "50"),
+            @Parameter(name = "optimizer", value = "pooled-lo")
+    })
     private Long id;
 
     @ManyToOne
@@ -41,4 +57,18 @@ public class Review {
     @NotNull
     private int rate;
 
+    // 검열 정책이 flag 일 때 금칙어가 포함된 리뷰입니다 (관리자 확인용)
+    private boolean flagged;
+
+    public static class AlreadyReviewed extends BusinessException {
+        public AlreadyReviewed() { super(HttpStatus.CONFLICT, "이미 리뷰를 작성한 식사입니다"); }
+    }
+
+    public static class InappropriateMessage extends BusinessException {
+        public InappropriateMessage() { super(HttpStatus.BAD_REQUEST, "부적절한 표현이 포함된 리뷰입니다"); }
+    }
+
+    public static class IngestQueueFull extends BusinessException {
+        public IngestQueueFull() { super(HttpStatus.SERVICE_UNAVAILABLE, "리뷰가 몰려 잠시 후 다시 시도해주세요"); }
+    }
 }
@@ -0,0 +1,31 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+/**
+ * 리뷰를 작성한 식사에 나온 요리 (review_dish)
+ * 리뷰의 날짜와 식사 시간으로 식단표를 찾아 작성 시점에 연결합니다
+ */
+@Getter
+@AllArgsConstructor @NoArgsConstructor
+@Entity
+@Table(name = "review_dish", indexes = @Index(name = "idx_review_dish_dish_id", columnList = "dish_id"))
+public class ReviewDish implements Persistable<ReviewDishId> {
+
+    @EmbeddedId
+    private ReviewDishId id;
+
+    // 연결은 새로 만들기만 하므로, saveAll 이 merge 를 위한 SELECT 없이 바로 persist 하도록 합니다
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,26 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.io.Serializable;
+
+/**
+ * 리뷰-요리 연결 복합키 (review_id, dish_id)
+ */
+@Getter
+@Embeddable
+@EqualsAndHashCode
+@AllArgsConstructor @NoArgsConstructor
+public class ReviewDishId implements Serializable {
+
+    @Column(name = "review_id")
+    private Long reviewId;
+
+    @Column(name = "dish_id")
+    private Long dishId;
+}
@@ -0,0 +1,62 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.exception.BusinessException;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+import javax.persistence.*;
+
+/**
+ * 날짜, 식사 시간별 리뷰 평점 집계 (review_rating_summary)
+ * 리뷰를 작성할 때 같은 트랜잭션에서 upsert 한 번으로 갱신되므로 review 테이블을 읽지 않고 평균과 분포를 계산할 수 있습니다
+ */
+@Getter
+@AllArgsConstructor @NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "review_rating_summary")
+public class ReviewRatingSummary {
+
+    public static final int MIN_RATE = 1;
+    public static final int MAX_RATE = 5;
+
+    @EmbeddedId
+    private ReviewRatingSummaryId id;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "rate_sum", nullable = false)
+    private long rateSum;
+
+    @Column(name = "rate1", nullable = false)
+    private long rate1;
+
+    @Column(name = "rate2", nullable = false)
+    private long rate2;
+
+    @Column(name = "rate3", nullable = false)
+    private long rate3;
+
+    @Column(name = "rate4", nullable = false)
+    private long rate4;
+
+    @Column(name = "rate5", nullable = false)
+    private long rate5;
+
+    /**
+     * @return 1점부터 5점까지 리뷰 수
+     */
+    public long[] getHistogram() {
+        return new long[] { rate1, rate2, rate3, rate4, rate5 };
+    }
+
+    public static class InvalidRange extends BusinessException {
+        public InvalidRange(int maxDays) {
+            super(HttpStatus.BAD_REQUEST, String.format("조회 기간은 시작일부터 최대 %d일까지 입니다", maxDays));
+        }
+    }
+}
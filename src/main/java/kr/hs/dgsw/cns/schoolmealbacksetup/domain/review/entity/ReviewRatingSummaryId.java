@@ -0,0 +1,29 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.ReviewTime;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 리뷰 평점 집계 복합키 (date, review_time)
+ * review 테이블과 같은 컬럼 이름과 저장 방식(ReviewTime 은 ordinal)을 사용합니다
+ */
+@Getter
+@Embeddable
+@EqualsAndHashCode
+@AllArgsConstructor @NoArgsConstructor
+public class ReviewRatingSummaryId implements Serializable {
+
+    @Column(name = "date")
+    private LocalDate date;
+
+    @Column(name = "review_time")
+    private ReviewTime reviewTime;
+}
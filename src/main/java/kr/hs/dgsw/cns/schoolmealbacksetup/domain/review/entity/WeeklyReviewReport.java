@@ -0,0 +1,78 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.WeeklyReportDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.exception.BusinessException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+import javax.persistence.*;
+import java.io.UncheckedIOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 주간 만족도 보고서 스냅샷 (weekly_review_report)
+ * 지난 주가 끝난 뒤 한 번 계산해 저장하고, 조회할 때는 저장된 내용만 읽습니다<br/>
+ * 리뷰는 작성한 날짜로만 저장되므로 끝난 주의 보고서는 다시 계산할 필요가 없습니다
+ */
+@Getter
+@AllArgsConstructor @NoArgsConstructor
+@Entity
+@Table(name = "weekly_review_report")
+public class WeeklyReviewReport {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    // 주의 월요일
+    @Id
+    @Column(name = "week_start")
+    private LocalDate weekStart;
+
+    @Column(nullable = false)
+    private LocalDateTime generatedAt;
+
+    // WeeklyReportDto 를 JSON 으로 저장합니다
+    @Lob
+    @Column(nullable = false)
+    private String report;
+
+    public static WeeklyReviewReport of(LocalDate weekStart, LocalDateTime generatedAt, WeeklyReportDto report) {
+        try {
+            return new WeeklyReviewReport(weekStart, generatedAt, OBJECT_MAPPER.writeValueAsString(report));
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public WeeklyReportDto toDto() {
+        try {
+            return OBJECT_MAPPER.readValue(report, WeeklyReportDto.class);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * @return {@code date} 가 속한 주의 월요일
+     */
+    public static LocalDate weekStartOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    /**
+     * @return {@code today} 기준으로 마지막으로 끝난 주(지난주)의 월요일
+     */
+    public static LocalDate lastCompletedWeek(LocalDate today) {
+        return weekStartOf(today).minusWeeks(1);
+    }
+
+    public static class NotGenerated extends BusinessException {
+        public NotGenerated() { super(HttpStatus.NOT_FOUND, "아직 만들어지지 않은 주간 보고서입니다"); }
+    }
+}
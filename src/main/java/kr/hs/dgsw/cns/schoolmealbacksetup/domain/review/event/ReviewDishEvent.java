@@ -0,0 +1,19 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 리뷰가 식단표의 요리에 연결되었을 때 발행됩니다
+ * {@code dishes}는 (요리 id -> 요리 이름) 입니다
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewDishEvent {
+    private final LocalDate date;
+    private final int rate;
+    private final Map<Long, String> dishes;
+}
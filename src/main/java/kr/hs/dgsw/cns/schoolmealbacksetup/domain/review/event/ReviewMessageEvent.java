@@ -0,0 +1,17 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 검열에 걸리지 않은(flagged 가 아닌) 리뷰가 저장되었을 때 리뷰마다 발행됩니다
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewMessageEvent {
+    private final LocalDate date;
+    private final int rate;
+    private final String message;
+}
@@ -0,0 +1,17 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.event;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.ReviewTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * (날짜, 식사 시간)에 리뷰가 하나 이상 저장되었을 때 발행됩니다
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewWrittenEvent {
+    private final LocalDate date;
+    private final ReviewTime reviewTime;
+}
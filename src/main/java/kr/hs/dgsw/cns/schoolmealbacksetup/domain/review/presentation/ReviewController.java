@@ -2,14 +2,23 @@ package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation;
 
 
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.request.WriteReviewRequestDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.DishRankingDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.ReviewListDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.ReviewSummaryDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.ReviewTermsDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.WeeklyReportDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.WriteReviewResponseDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service.ReviewService;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.RatingBucket;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.ReviewTime;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.validation.Valid;
 
 @RequiredArgsConstructor
 @RestController
@@ -23,8 +32,39 @@ public class ReviewController {
         return reviewService.getReviewByDate(date, reviewTime, page);
     }
 
+    @GetMapping("/summary")
+    public ReviewSummaryDto getReviewSummary(@RequestParam String from,
+                                             @RequestParam(required = false) String to,
+                                             @RequestParam(required = false) ReviewTime reviewTime) {
+        return reviewService.getReviewSummary(from, to, reviewTime);
+    }
+
+    @GetMapping("/dishes")
+    public DishRankingDto getDishRanking(@RequestParam(required = false) String month,
+                                         @RequestParam(defaultValue = "5") int size) {
+        return reviewService.getDishRanking(month, size);
+    }
+
+    @GetMapping("/terms")
+    public ReviewTermsDto getTopTerms(@RequestParam String from,
+                                      @RequestParam(required = false) String to,
+                                      @RequestParam(defaultValue = "LOW") RatingBucket bucket,
+                                      @RequestParam(defaultValue = "20") int size) {
+        return reviewService.getTopTerms(from, to, bucket, size);
+    }
+
+    @GetMapping("/reports/weekly")
+    public WeeklyReportDto getWeeklyReport(@RequestParam(required = false) String week) {
+        return reviewService.getWeeklyReport(week);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportReviews(@RequestParam(defaultValue = "ndjson") String format) {
+        return reviewService.exportReviews(format);
+    }
+
     @PostMapping
-    public WriteReviewResponseDto writeReview(Authentication authentication, @RequestBody WriteReviewRequestDto writeReviewRequestDto) {
+    public WriteReviewResponseDto writeReview(Authentication authentication, @RequestBody @Valid WriteReviewRequestDto writeReviewRequestDto) {
         return reviewService.writeReview((User) authentication.getPrincipal(), writeReviewRequestDto);
     }
 }
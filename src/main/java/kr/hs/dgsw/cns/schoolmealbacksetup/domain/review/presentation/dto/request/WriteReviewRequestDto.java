@@ -10,6 +10,7 @@ import javax.persistence.Enumerated;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
 
 @Getter
 @Builder
@@ -24,6 +25,7 @@ public class WriteReviewRequestDto {
     private ReviewTime reviewTime;
 
     @NotNull
+    @Size(max = 200)
     private String message;
 
     @NotNull
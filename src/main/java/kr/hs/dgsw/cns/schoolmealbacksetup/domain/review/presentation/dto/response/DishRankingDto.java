@@ -0,0 +1,20 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class DishRankingDto {
+
+    private final String month;
+
+    // 평균 평점이 높은 순
+    private final List<DishRatingDto> best;
+
+    // 평균 평점이 낮은 순
+    private final List<DishRatingDto> worst;
+
+}
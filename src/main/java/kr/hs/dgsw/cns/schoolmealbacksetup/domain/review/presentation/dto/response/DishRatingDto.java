@@ -0,0 +1,20 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class DishRatingDto {
+
+    private final Long id;
+
+    @JsonProperty("dish_name")
+    private final String dishName;
+
+    private final Long reviews;
+
+    private final Double average;
+
+}
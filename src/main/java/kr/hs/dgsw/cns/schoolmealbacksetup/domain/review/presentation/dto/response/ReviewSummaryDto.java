@@ -0,0 +1,30 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.ReviewTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class ReviewSummaryDto {
+
+    private final String from;
+
+    private final String to;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty("review_time")
+    private final ReviewTime reviewTime;
+
+    private final Long count;
+
+    private final Double average;
+
+    // 1점부터 5점까지 리뷰 수
+    private final long[] histogram;
+
+}
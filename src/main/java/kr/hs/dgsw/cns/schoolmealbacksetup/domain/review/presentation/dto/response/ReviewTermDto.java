@@ -0,0 +1,18 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ReviewTermDto {
+
+    private final String term;
+
+    // 이 표현이 들어간 리뷰 수
+    private final Long reviews;
+
+    // 구간의 전체 리뷰 중 이 표현이 들어간 리뷰의 비율
+    private final Double ratio;
+
+}
@@ -0,0 +1,25 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.RatingBucket;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ReviewTermsDto {
+
+    private final String from;
+
+    private final String to;
+
+    private final RatingBucket bucket;
+
+    // 기간 안에서 이 평점 구간에 속한 리뷰 수
+    private final Long reviews;
+
+    // 리뷰 수가 많은 순
+    private final List<ReviewTermDto> terms;
+
+}
@@ -0,0 +1,64 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.ReviewTime;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+
+/**
+ * 주간 만족도 보고서. 생성 시점에 JSON 으로 저장했다가 그대로 읽어 반환합니다
+ */
+@Getter
+@Builder
+@Jacksonized
+public class WeeklyReportDto {
+
+    // 월요일
+    private final String weekStart;
+
+    // 일요일
+    private final String weekEnd;
+
+    private final String generatedAt;
+
+    private final long count;
+
+    private final double average;
+
+    // 아침, 점심, 저녁 순서
+    private final List<MealReport> meals;
+
+    @Getter
+    @Builder
+    @Jacksonized
+    public static class MealReport {
+
+        @JsonProperty("review_time")
+        private final ReviewTime reviewTime;
+
+        private final long count;
+
+        private final double average;
+
+        // 1점부터 5점까지 리뷰 수
+        private final long[] histogram;
+
+        // 평점이 낮은 순, 같으면 내용이 긴 순
+        private final List<Complaint> complaints;
+    }
+
+    @Getter
+    @Builder
+    @Jacksonized
+    public static class Complaint {
+
+        private final String date;
+
+        private final int rate;
+
+        private final String message;
+    }
+}
@@ -0,0 +1,16 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository;
+
+/**
+ * 월별, 요리별 리뷰 수와 평점 합 projection
+ */
+public interface DishMonthRating {
+    Integer getYear();
+
+    Integer getMonth();
+
+    Long getDishId();
+
+    Long getReviews();
+
+    Long getRateSum();
+}
@@ -0,0 +1,24 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.Dish;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DishRepository extends JpaRepository<Dish, Long> {
+
+    List<Dish> findAllByNameIn(Collection<String> names);
+
+    /**
+     * 같은 이름을 동시에 등록해도 unique 제약조건으로 한 행만 남습니다
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO dish (name) VALUES (:name)", nativeQuery = true)
+    int insertIgnore(@Param("name") String name);
+}
@@ -0,0 +1,10 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository;
+
+/**
+ * 리뷰 목록에 필요한 내용과 평점만 읽는 projection
+ */
+public interface ReviewContent {
+    String getMessage();
+
+    int getRate();
+}
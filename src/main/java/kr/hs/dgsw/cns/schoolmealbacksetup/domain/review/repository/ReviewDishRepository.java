@@ -0,0 +1,22 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.ReviewDish;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.ReviewDishId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ReviewDishRepository extends JpaRepository<ReviewDish, ReviewDishId> {
+
+    /**
+     * 시작 시 요리별 집계를 재구성할 때 한 번 사용됩니다
+     */
+    @Query(value = "SELECT YEAR(review.date) AS year, MONTH(review.date) AS month, review_dish.dish_id AS dishId, " +
+            "COUNT(*) AS reviews, SUM(review.rate) AS rateSum " +
+            "FROM review_dish JOIN review ON review.id = review_dish.review_id " +
+            "GROUP BY YEAR(review.date), MONTH(review.date), review_dish.dish_id", nativeQuery = true)
+    List<DishMonthRating> sumByMonthAndDish();
+}
@@ -0,0 +1,24 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.ReviewTime;
+
+import java.time.LocalDate;
+
+/**
+ * 리뷰 내보내기 projection. 작성자(User)는 id 만 읽습니다
+ */
+public interface ReviewExportRow {
+    Long getId();
+
+    Long getUserId();
+
+    LocalDate getDate();
+
+    ReviewTime getReviewTime();
+
+    int getRate();
+
+    String getMessage();
+
+    boolean isFlagged();
+}
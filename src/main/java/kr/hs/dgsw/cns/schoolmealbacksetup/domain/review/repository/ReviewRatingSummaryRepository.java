@@ -0,0 +1,47 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.ReviewRatingSummary;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.ReviewRatingSummaryId;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.ReviewTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ReviewRatingSummaryRepository extends JpaRepository<ReviewRatingSummary, ReviewRatingSummaryId> {
+
+    List<ReviewRatingSummary> findAllByIdDateBetween(LocalDate from, LocalDate to);
+
+    List<ReviewRatingSummary> findAllByIdDateBetweenAndIdReviewTime(LocalDate from, LocalDate to, ReviewTime reviewTime);
+
+    /**
+     * 같은 (날짜, 식사 시간) 리뷰들의 합계를 집계에 더합니다. 행이 없으면 만들고, 있으면 같은 행을 원자적으로 증가시킵니다
+     * @param reviewTime {@link ReviewTime#ordinal()}
+     */
+    @Modifying
+    @Query(value = "INSERT INTO review_rating_summary " +
+            "(date, review_time, review_count, rate_sum, rate1, rate2, rate3, rate4, rate5) " +
+            "VALUES (:date, :reviewTime, :count, :rateSum, :rate1, :rate2, :rate3, :rate4, :rate5) " +
+            "ON DUPLICATE KEY UPDATE review_count = review_count + :count, rate_sum = rate_sum + :rateSum, " +
+            "rate1 = rate1 + :rate1, rate2 = rate2 + :rate2, rate3 = rate3 + :rate3, " +
+            "rate4 = rate4 + :rate4, rate5 = rate5 + :rate5", nativeQuery = true)
+    int add(@Param("date") LocalDate date, @Param("reviewTime") int reviewTime,
+            @Param("count") long count, @Param("rateSum") long rateSum,
+            @Param("rate1") long rate1, @Param("rate2") long rate2, @Param("rate3") long rate3,
+            @Param("rate4") long rate4, @Param("rate5") long rate5);
+
+    /**
+     * 기존 리뷰로 집계 전체를 다시 계산합니다 (집계 테이블이 비어있을 때 한 번 실행됩니다)
+     */
+    @Modifying
+    @Query(value = "REPLACE INTO review_rating_summary " +
+            "(date, review_time, review_count, rate_sum, rate1, rate2, rate3, rate4, rate5) " +
+            "SELECT date, review_time, COUNT(*), SUM(rate), SUM(rate = 1), SUM(rate = 2), SUM(rate = 3), " +
+            "SUM(rate = 4), SUM(rate = 5) FROM review GROUP BY date, review_time", nativeQuery = true)
+    int rebuild();
+}
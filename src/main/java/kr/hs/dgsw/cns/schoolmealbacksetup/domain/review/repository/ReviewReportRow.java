@@ -0,0 +1,20 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.ReviewTime;
+
+import java.time.LocalDate;
+
+/**
+ * 주간 보고서 계산에 필요한 컬럼만 읽는 projection
+ */
+public interface ReviewReportRow {
+    LocalDate getDate();
+
+    ReviewTime getReviewTime();
+
+    int getRate();
+
+    String getMessage();
+
+    boolean isFlagged();
+}
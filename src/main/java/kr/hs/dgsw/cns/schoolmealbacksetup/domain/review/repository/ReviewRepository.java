@@ -2,15 +2,69 @@ package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository;
 
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.Review;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.ReviewTime;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.export.StreamingExporter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import javax.validation.constraints.NotNull;
+import javax.persistence.QueryHint;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
-    Page<Review> findAllByDateAndReviewTime(LocalDate date, @NotNull ReviewTime reviewTime, Pageable pageable);
+
+    /**
+     * (date, review_time, id) 인덱스 순서대로 한 페이지의 내용과 평점만 읽습니다. 작성자(User)는 조회하지 않습니다
+     */
+    @Query(value = "SELECT review.message AS message, review.rate AS rate FROM Review review " +
+            "WHERE review.date = :date AND review.reviewTime = :reviewTime ORDER BY review.id DESC",
+            countQuery = "SELECT COUNT(review.id) FROM Review review " +
+                    "WHERE review.date = :date AND review.reviewTime = :reviewTime")
+    Page<ReviewContent> findContentsByDateAndReviewTime(@Param("date") LocalDate date,
+                                                        @Param("reviewTime") ReviewTime reviewTime,
+                                                        Pageable pageable);
+
+    /**
+     * {@code from} 이후 리뷰의 작성자와 식사만 읽습니다. 작성자(User)는 조회하지 않습니다
+     */
+    @Query("SELECT review.user.id AS userId, review.date AS date, review.reviewTime AS reviewTime " +
+            "FROM Review review WHERE review.date >= :from")
+    List<ReviewedUser> findReviewedUsersSince(@Param("from") LocalDate from);
+
+    /**
+     * 전체 리뷰를 id 순서로 {@link StreamingExporter#FETCH_SIZE} 행씩 나눠 읽습니다<br/>
+     * 트랜잭션 안에서 사용하고 다 쓰면 닫아야 합니다
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = StreamingExporter.FETCH_SIZE))
+    @Query("SELECT review.id AS id, review.user.id AS userId, review.date AS date, review.reviewTime AS reviewTime, " +
+            "review.rate AS rate, review.message AS message, review.flagged AS flagged FROM Review review ORDER BY review.id")
+    Stream<ReviewExportRow> streamAllForExport();
+
+    /**
+     * {@code from} ~ {@code to} 기간의 리뷰를 (date, review_time, id) 인덱스로 {@link StreamingExporter#FETCH_SIZE} 행씩 나눠 읽습니다<br/>
+     * 트랜잭션 안에서 사용하고 다 쓰면 닫아야 합니다
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = StreamingExporter.FETCH_SIZE))
+    @Query("SELECT review.date AS date, review.reviewTime AS reviewTime, review.rate AS rate, review.message AS message, " +
+            "review.flagged AS flagged FROM Review review WHERE review.date BETWEEN :from AND :to")
+    Stream<ReviewReportRow> streamForReport(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * 기존 리뷰 id 보다 큰 값부터 할당되도록 review_id_seq 를 맞춥니다 (IDENTITY 에서 옮겨온 경우)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE review_id_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM review))",
+            nativeQuery = true)
+    int alignIdSequence();
 }
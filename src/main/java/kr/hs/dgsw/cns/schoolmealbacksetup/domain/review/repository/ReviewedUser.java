@@ -0,0 +1,16 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.ReviewTime;
+
+import java.time.LocalDate;
+
+/**
+ * 리뷰를 작성한 (사용자 id, 날짜, 식사 시간) projection
+ */
+public interface ReviewedUser {
+    Long getUserId();
+
+    LocalDate getDate();
+
+    ReviewTime getReviewTime();
+}
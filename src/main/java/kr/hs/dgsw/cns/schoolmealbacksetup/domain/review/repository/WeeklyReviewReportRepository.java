@@ -0,0 +1,31 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.WeeklyReviewReport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface WeeklyReviewReportRepository extends JpaRepository<WeeklyReviewReport, LocalDate> {
+
+    /**
+     * 보고서가 이미 만들어진 주(월요일)만 읽습니다. 보고서 내용은 조회하지 않습니다
+     */
+    @Query("SELECT report.weekStart FROM WeeklyReviewReport report WHERE report.weekStart BETWEEN :from AND :to")
+    List<LocalDate> findWeekStartsBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * 다른 인스턴스가 같은 주의 보고서를 먼저 저장했으면 덮어쓰지 않고 0 을 반환합니다
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO weekly_review_report (week_start, generated_at, report) " +
+            "VALUES (:weekStart, :generatedAt, :report)", nativeQuery = true)
+    int insertIgnore(@Param("weekStart") LocalDate weekStart, @Param("generatedAt") LocalDateTime generatedAt,
+                     @Param("report") String report);
+}
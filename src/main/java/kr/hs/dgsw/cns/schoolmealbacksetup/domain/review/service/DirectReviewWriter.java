@@ -0,0 +1,38 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.Review;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.ReviewRatingSummaryId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 요청 스레드에서 바로 리뷰를 저장합니다 (기본값)<br/>
+ * 식단표는 트랜잭션을 열기 전에 조회하므로, 외부 API 를 기다리는 동안 DB 커넥션을 잡고 있지 않습니다
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "review.ingest.async", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class DirectReviewWriter implements ReviewWriter {
+
+    private final ReviewRecorder reviewRecorder;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void write(Review review) {
+        List<Review> reviews = List.of(review);
+        Map<ReviewRatingSummaryId, Set<String>> mealDishes = reviewRecorder.findMealDishes(reviews);
+        try {
+            transactionTemplate.executeWithoutResult(status -> reviewRecorder.record(reviews, mealDishes));
+        } catch (DataIntegrityViolationException ex) {
+            // 다른 인스턴스에서 먼저 작성된 경우입니다 (uk_review_user_date_review_time)
+            throw new Review.AlreadyReviewed();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.Dish;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.event.ReviewDishEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.DishRankingDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.DishRatingDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.DishMonthRating;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.DishRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.ReviewDishRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.util.RebuildableState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h1>월별 요리 평점</h1>
+ * 월마다 요리 id 를 인덱스로 하는 (리뷰 수, 평점 합) 배열을 메모리에 유지합니다<br/>
+ * 시작 시 review_dish 집계로 한 번 재구성하고, 이후에는 커밋된 리뷰 이벤트로 갱신하므로
+ * 이번 달 최고/최저 요리는 review 테이블을 읽지 않고 요리 수만큼만 훑어 계산합니다<br/>
+ * 재구성은 새 집계를 따로 만든 뒤 교체하므로 재구성 중에도 이전 집계가 그대로 조회됩니다
+ */
+@Component
+@RequiredArgsConstructor
+public class DishRatingBoard {
+
+    // 리뷰가 이보다 적은 요리는 평균이 한두 명의 평점에 좌우되므로 순위에서 제외합니다
+    static final int MIN_REVIEWS = 3;
+
+    private final DishRepository dishRepository;
+    private final ReviewDishRepository reviewDishRepository;
+
+    private final RebuildableState<Ratings> ratings = new RebuildableState<>(new Ratings());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        ratings.rebuild(() -> {
+            Ratings fresh = new Ratings();
+            for (Dish dish : dishRepository.findAll()) fresh.names.put(dish.getId(), dish.getName());
+            for (DishMonthRating rating : reviewDishRepository.sumByMonthAndDish()) {
+                fresh.monthOf(YearMonth.of(rating.getYear(), rating.getMonth()))
+                        .add(rating.getDishId(), rating.getReviews(), rating.getRateSum());
+            }
+            return fresh;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewed(ReviewDishEvent event) {
+        ratings.update(current -> {
+            MonthlyRatings monthly = current.monthOf(YearMonth.from(event.getDate()));
+            event.getDishes().forEach((dishId, name) -> {
+                current.names.putIfAbsent(dishId, name);
+                monthly.add(dishId, 1, event.getRate());
+            });
+        });
+    }
+
+    public DishRankingDto ranking(YearMonth month, int size) {
+        Ratings current = ratings.get();
+        MonthlyRatings monthly = current.months.get(month);
+        List<DishRatingDto> rated = (monthly == null) ? Collections.emptyList() : monthly.rated(current.names);
+
+        List<DishRatingDto> best = new ArrayList<>(rated);
+        best.sort(Comparator.comparing(DishRatingDto::getAverage).reversed()
+                .thenComparing(Comparator.comparing(DishRatingDto::getReviews).reversed()));
+        List<DishRatingDto> worst = new ArrayList<>(rated);
+        worst.sort(Comparator.comparing(DishRatingDto::getAverage)
+                .thenComparing(Comparator.comparing(DishRatingDto::getReviews).reversed()));
+
+        return new DishRankingDto(month.toString(), limit(best, size), limit(worst, size));
+    }
+
+    private static List<DishRatingDto> limit(List<DishRatingDto> list, int size) {
+        return (list.size() > size) ? list.subList(0, size) : list;
+    }
+
+    private static class Ratings {
+        private final Map<Long, String> names = new ConcurrentHashMap<>();
+        private final Map<YearMonth, MonthlyRatings> months = new ConcurrentHashMap<>();
+
+        private MonthlyRatings monthOf(YearMonth month) {
+            return months.computeIfAbsent(month, key -> new MonthlyRatings());
+        }
+    }
+
+    private static class MonthlyRatings {
+        private long[] reviews = new long[64];
+        private long[] rateSums = new long[64];
+
+        private synchronized void add(long dishId, long count, long rateSum) {
+            int index = Math.toIntExact(dishId);
+            if (index >= reviews.length) {
+                int length = Math.max(index + 1, reviews.length * 2);
+                reviews = Arrays.copyOf(reviews, length);
+                rateSums = Arrays.copyOf(rateSums, length);
+            }
+            reviews[index] += count;
+            rateSums[index] += rateSum;
+        }
+
+        private synchronized List<DishRatingDto> rated(Map<Long, String> names) {
+            List<DishRatingDto> result = new ArrayList<>();
+            for (int index = 0; index < reviews.length; index++) {
+                if (reviews[index] < MIN_REVIEWS) continue;
+                double average = Math.round(rateSums[index] * 100.0 / reviews[index]) / 100.0;
+                result.add(new DishRatingDto((long) index, names.get((long) index), reviews[index], average));
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.Review;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.ReviewRatingSummaryId;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.config.ReviewIngestConfiguration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * <h1>리뷰 저장 대기열</h1>
+ * 검증이 끝난 리뷰를 크기가 정해진 큐에 넣고 바로 응답한 뒤,
+ * {@code review.ingest.async.flush-interval} 마다 {@code batch-size} 개씩 한 트랜잭션에서 JDBC batch 로 저장합니다<br/>
+ * 큐가 가득 차면 기다리지 않고 503 으로 거절하며, 종료 시에는 새 리뷰를 받지 않고 남은 리뷰를 모두 저장합니다<br/>
+ * DB 연결 끊김처럼 일시적인 실패는 묶음 전체를 다음 flush 로 미루고,
+ * 그 밖의 실패는 하나씩 다시 저장해서 저장할 수 없는 리뷰만 버린 뒤 작성 표시를 지웁니다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "review.ingest.async", name = "enabled", havingValue = "true")
+public class QueuedReviewWriter implements ReviewWriter {
+
+    private final ReviewRecorder reviewRecorder;
+    private final ReviewedUserIndex reviewedUserIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final BlockingQueue<Review> queue;
+
+    // 저장에 실패한 batch. 다음 flush 에서 큐보다 먼저 저장합니다 (flushLock 안에서만 접근)
+    private final List<Review> retry = new ArrayList<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile boolean closed;
+
+    public QueuedReviewWriter(ReviewIngestConfiguration reviewIngestConfiguration,
+                              ReviewRecorder reviewRecorder,
+                              ReviewedUserIndex reviewedUserIndex,
+                              TransactionTemplate transactionTemplate) {
+        this.reviewRecorder = reviewRecorder;
+        this.reviewedUserIndex = reviewedUserIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = reviewIngestConfiguration.getBatchSize();
+        this.queue = new ArrayBlockingQueue<>(reviewIngestConfiguration.getQueueCapacity());
+    }
+
+    @Override
+    public void write(Review review) {
+        if (closed || !queue.offer(review)) throw new Review.IngestQueueFull();
+    }
+
+    @Scheduled(fixedDelayString = "${review.ingest.async.flush-interval:200}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            while (true) {
+                List<Review> batch = new ArrayList<>(retry);
+                retry.clear();
+                queue.drainTo(batch, batchSize - batch.size());
+                if (batch.isEmpty() || !write(batch) || batch.size() < batchSize) return;
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        closed = true;
+        log.info("Flushing {} queued reviews before shutdown", queue.size() + retry.size());
+        flush();
+        if (!retry.isEmpty()) log.error("{} reviews could not be saved before shutdown", retry.size());
+    }
+
+    /**
+     * @return 저장했거나 저장할 수 없는 리뷰를 버렸으면 true, 일시적인 실패로 다음 flush 로 미뤘으면 false
+     */
+    private boolean write(List<Review> batch) {
+        // 식단표는 트랜잭션 밖에서 조회합니다
+        Map<ReviewRatingSummaryId, Set<String>> mealDishes = reviewRecorder.findMealDishes(batch);
+        try {
+            transactionTemplate.executeWithoutResult(status -> reviewRecorder.record(batch, mealDishes));
+            return true;
+        } catch (RuntimeException ex) {
+            if (isTransient(ex)) {
+                log.error("Failed to save {} reviews, retrying next flush", batch.size(), ex);
+                // 되돌려진 트랜잭션에서 할당된 id 는 버리고 새 엔티티로 다시 저장합니다
+                retry.addAll(batch.stream().map(review -> review.toBuilder().id(null).build()).collect(Collectors.toList()));
+                return false;
+            }
+            if (batch.size() == 1) {
+                drop(batch.get(0), ex);
+                return true;
+            }
+            // 다른 인스턴스에서 먼저 작성된 리뷰(uk_review_user_date_review_time)나 검증에 실패한 리뷰가 섞여 있습니다.
+            // 하나씩 다시 저장해서 그 리뷰만 버립니다
+            boolean saved = true;
+            for (Review review : batch) saved &= write(List.of(review.toBuilder().id(null).build()));
+            return saved;
+        }
+    }
+
+    // 제약 위반은 다시 저장해도 같은 결과이므로, 그 밖의 DB 접근 실패만 일시적인 실패로 봅니다
+    private static boolean isTransient(RuntimeException ex) {
+        return ex instanceof DataAccessException && !(ex instanceof DataIntegrityViolationException);
+    }
+
+    private void drop(Review review, RuntimeException ex) {
+        if (ex instanceof DataIntegrityViolationException) {
+            log.warn("Dropping duplicate review for {} {}", review.getDate(), review.getReviewTime());
+        } else {
+            log.error("Dropping review for {} {} that cannot be saved", review.getDate(), review.getReviewTime(), ex);
+        }
+        // 작성 표시는 빠른 거절에만 쓰이고 최종 판단은 유니크 제약이 하므로, 중복이어도 지워도 됩니다
+        if (review.getUser() != null)
+            reviewedUserIndex.release(review.getDate(), review.getReviewTime(), review.getUser().getId());
+    }
+}
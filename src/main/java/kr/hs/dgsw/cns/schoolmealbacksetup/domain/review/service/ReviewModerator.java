@@ -0,0 +1,121 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.Review;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.config.ReviewModerationConfiguration;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.util.AhoCorasick;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <h1>리뷰 검열</h1>
+ * 금칙어 목록으로 만든 {@link AhoCorasick} 오토마톤으로 리뷰 내용을 한 번 훑어 금칙어를 찾고,
+ * {@code review.moderation.policy} 에 따라 가리거나(mask), 표시해서 저장하거나(flag), 거절(reject)합니다<br/>
+ * 목록은 {@code review.moderation.reload-interval} 마다 다시 읽어 바뀐 경우에만 오토마톤을 새로 만들고 교체합니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewModerator {
+
+    private static final char MASK = '*';
+
+    private final ReviewModerationConfiguration reviewModerationConfiguration;
+    private final ResourceLoader resourceLoader;
+
+    private volatile Dictionary dictionary = new Dictionary("", AhoCorasick.build(List.of()), AhoCorasick.build(List.of()));
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${review.moderation.reload-interval:60000}",
+            initialDelayString = "${review.moderation.reload-interval:60000}")
+    public void reload() {
+        if (!reviewModerationConfiguration.isEnabled()) return;
+
+        Resource resource = resourceLoader.getResource(reviewModerationConfiguration.getWords());
+        String content;
+        try {
+            content = new String(resource.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            // 목록을 읽지 못하면 이전 목록을 계속 사용합니다
+            log.warn("cannot read moderation word list {}", reviewModerationConfiguration.getWords(), ex);
+            return;
+        }
+        if (content.equals(dictionary.source)) return;
+
+        List<String> banned = new ArrayList<>();
+        List<String> allowed = new ArrayList<>();
+        for (String line : content.split("\\R")) {
+            String word = line.strip();
+            if (word.isEmpty() || word.startsWith("#")) continue;
+            if (word.startsWith("!")) allowed.add(word.substring(1));
+            else banned.add(word);
+        }
+        dictionary = new Dictionary(content, AhoCorasick.build(banned), AhoCorasick.build(allowed));
+        log.info("moderation word list loaded: {} banned, {} allowed", banned.size(), allowed.size());
+    }
+
+    /**
+     * @throws Review.InappropriateMessage 정책이 reject 이고 금칙어가 있는 경우
+     */
+    public Result moderate(String message) {
+        if (!reviewModerationConfiguration.isEnabled() || message == null) return new Result(message, false);
+
+        String text = Normalizer.normalize(message, Normalizer.Form.NFC);
+        Dictionary current = dictionary;
+
+        // 허용 단어 안에 들어가는 금칙어는 무시합니다 ("시발점")
+        boolean[] allowed = new boolean[text.length()];
+        current.allowed.scan(text, (start, end) -> Arrays.fill(allowed, start, end, true));
+
+        boolean[] banned = new boolean[text.length()];
+        boolean[] found = { false };
+        current.banned.scan(text, (start, end) -> {
+            for (int i = start; i < end; i++) {
+                if (allowed[i]) return;
+            }
+            Arrays.fill(banned, start, end, true);
+            found[0] = true;
+        });
+        if (!found[0]) return new Result(text, false);
+
+        switch (reviewModerationConfiguration.getPolicy()) {
+            case "reject":
+                throw new Review.InappropriateMessage();
+            case "flag":
+                return new Result(text, true);
+            default:
+                char[] masked = text.toCharArray();
+                for (int i = 0; i < masked.length; i++) {
+                    if (banned[i] && Character.isLetterOrDigit(masked[i])) masked[i] = MASK;
+                }
+                return new Result(new String(masked), false);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private final String message;
+        private final boolean flagged;
+    }
+
+    @AllArgsConstructor
+    private static class Dictionary {
+        private final String source;
+        private final AhoCorasick banned;
+        private final AhoCorasick allowed;
+    }
+}
@@ -0,0 +1,45 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.event.ReviewWrittenEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.ReviewTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+
+/**
+ * <h1>리뷰 목록 캐시</h1>
+ * (날짜, 식사 시간)별 리뷰 목록의 앞 {@link #CACHED_PAGES} 페이지를 {@value #NAME} 캐시에 보관합니다
+ * ({@link ReviewServiceImpl#getReviewByDate} 의 {@code @Cacheable})<br/>
+ * 리뷰가 저장되면 트랜잭션이 커밋된 뒤에 그 (날짜, 식사 시간)의 페이지만 지우므로,
+ * 커밋되지 않은 리뷰가 캐시에 들어가거나 다른 날짜/식사의 캐시가 지워지지 않습니다<br/>
+ * 커밋 직전에 시작된 조회가 이전 목록을 다시 넣을 수 있으므로 {@code review.page-cache.ttl} 이 지나면 만료됩니다
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewPageCache {
+
+    public static final String NAME = "ReviewPage";
+    public static final int CACHED_PAGES = 3;
+
+    private final CacheManager cacheManager;
+
+    public static String key(String date, ReviewTime reviewTime, int page) {
+        return key(LocalDate.parse(date), reviewTime, page);
+    }
+
+    private static String key(LocalDate date, ReviewTime reviewTime, int page) {
+        return date + ":" + reviewTime + ":" + page;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWritten(ReviewWrittenEvent event) {
+        Cache cache = cacheManager.getCache(NAME);
+        if (cache == null) return;
+        // 리뷰가 추가되면 뒤 페이지로 밀리는 리뷰가 생기므로 캐시한 페이지를 모두 지웁니다
+        for (int page = 0; page < CACHED_PAGES; page++) cache.evict(key(event.getDate(), event.getReviewTime(), page));
+    }
+}
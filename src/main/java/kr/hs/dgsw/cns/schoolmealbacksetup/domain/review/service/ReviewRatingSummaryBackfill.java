@@ -0,0 +1,29 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.ReviewRatingSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 집계 테이블을 처음 만든 경우, 이미 작성된 리뷰로 한 번 채웁니다<br/>
+ * 이후에는 리뷰 작성 시 upsert 로만 갱신됩니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewRatingSummaryBackfill {
+
+    private final ReviewRatingSummaryRepository reviewRatingSummaryRepository;
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (reviewRatingSummaryRepository.count() > 0) return;
+        int rows = reviewRatingSummaryRepository.rebuild();
+        if (rows > 0) log.info("review rating summary rebuilt: {} rows", rows);
+    }
+}
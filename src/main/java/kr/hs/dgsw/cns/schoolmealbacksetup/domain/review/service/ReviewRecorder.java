@@ -0,0 +1,174 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.Dish;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.Review;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.ReviewDish;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.ReviewDishId;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.ReviewRatingSummary;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.ReviewRatingSummaryId;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.event.ReviewDishEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.event.ReviewMessageEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.event.ReviewWrittenEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.DishRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.ReviewDishRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.ReviewRatingSummaryRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.ReviewRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.ReviewTime;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.infra.neis.MealPlannerInfra;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * <h1>리뷰 저장</h1>
+ * 리뷰 묶음을 한 번에 저장하고, 그 리뷰로 바뀌는 평점 집계와 요리 연결을 함께 반영합니다<br/>
+ * 리뷰와 요리 연결은 saveAll 로 JDBC batch 가 되고, 집계는 (날짜, 식사 시간)마다 한 번만 upsert 합니다<br/>
+ * 식단표는 외부 API 라서 {@link #findMealDishes} 로 트랜잭션을 열기 전에 날짜마다 한 번만 조회하고,
+ * {@link #record} 는 그 결과를 받아 호출한 쪽의 트랜잭션 안에서 실행됩니다<br/>
+ * 식단표 조회에 실패한 날짜는 {@link #MEAL_RETRY_MILLIS} 동안 다시 조회하지 않고 요리 없이 저장합니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewRecorder {
+
+    // 식단표(MMEAL_SC_NM)의 식사 이름
+    private static final Map<ReviewTime, String> MEAL_NAMES = Map.of(
+            ReviewTime.BREAKFAST, "조식",
+            ReviewTime.LUNCH, "중식",
+            ReviewTime.DINNER, "석식"
+    );
+    private static final long MEAL_RETRY_MILLIS = 60_000;
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewRatingSummaryRepository reviewRatingSummaryRepository;
+    private final DishRepository dishRepository;
+    private final ReviewDishRepository reviewDishRepository;
+    private final MealPlannerInfra mealPlannerInfra;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 식단표 조회에 실패한 날짜 -> 다시 조회할 수 있는 시각
+    private final Map<LocalDate, Long> mealRetryAt = new ConcurrentHashMap<>();
+
+    // IDENTITY 로 만들어진 기존 리뷰 id 와 겹치지 않도록 id 테이블을 맞춥니다
+    @PostConstruct
+    public void alignIdSequence() {
+        reviewRepository.alignIdSequence();
+    }
+
+    /**
+     * 리뷰를 작성한 식사마다 식단표의 요리 이름을 조회합니다. 트랜잭션 밖에서 호출해야 합니다
+     * @return (날짜, 식사 시간) -> 정리한 요리 이름. 식단표를 가져오지 못한 식사는 빈 집합입니다
+     */
+    public Map<ReviewRatingSummaryId, Set<String>> findMealDishes(Collection<Review> reviews) {
+        Map<ReviewRatingSummaryId, Set<String>> mealDishes = new HashMap<>();
+        Map<LocalDate, List<MealPlannerInfra.MealItem>> mealsByDate = new HashMap<>();
+        for (Review review : reviews) {
+            ReviewRatingSummaryId id = new ReviewRatingSummaryId(review.getDate(), review.getReviewTime());
+            if (mealDishes.containsKey(id)) continue;
+
+            String mealName = MEAL_NAMES.get(id.getReviewTime());
+            Set<String> names = mealsByDate.computeIfAbsent(id.getDate(), this::findMeals).stream()
+                    .filter(meal -> mealName.equals(meal.getTime()))
+                    .flatMap(meal -> meal.getMenuList().stream())
+                    .map(ReviewRecorder::normalizeDish)
+                    .filter(name -> !name.isEmpty())
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            mealDishes.put(id, names);
+        }
+        return mealDishes;
+    }
+
+    /**
+     * @param mealDishes {@link #findMealDishes} 의 결과. 없는 식사는 요리 없이 저장합니다
+     */
+    public void record(List<Review> reviews, Map<ReviewRatingSummaryId, Set<String>> mealDishes) {
+        if (reviews.isEmpty()) return;
+        // 유니크 제약 위반이 집계보다 먼저 드러나도록 리뷰는 바로 flush 합니다
+        List<Review> saved = reviewRepository.saveAllAndFlush(reviews);
+
+        Map<ReviewRatingSummaryId, List<Review>> groups = saved.stream()
+                .collect(Collectors.groupingBy(review -> new ReviewRatingSummaryId(review.getDate(), review.getReviewTime()),
+                        LinkedHashMap::new, Collectors.toList()));
+
+        List<ReviewDish> links = new ArrayList<>();
+        List<Object> events = new ArrayList<>();
+        groups.forEach((id, group) -> {
+            addToSummary(id, group);
+            events.add(new ReviewWrittenEvent(id.getDate(), id.getReviewTime()));
+            for (Review review : group) {
+                if (!review.isFlagged()) events.add(new ReviewMessageEvent(review.getDate(), review.getRate(), review.getMessage()));
+            }
+
+            Map<Long, String> dishes = findDishes(mealDishes.getOrDefault(id, Collections.emptySet()));
+            if (dishes.isEmpty()) return;
+            for (Review review : group) {
+                dishes.keySet().forEach(dishId -> links.add(new ReviewDish(new ReviewDishId(review.getId(), dishId))));
+                events.add(new ReviewDishEvent(review.getDate(), review.getRate(), dishes));
+            }
+        });
+
+        if (!links.isEmpty()) reviewDishRepository.saveAll(links);
+        events.forEach(eventPublisher::publishEvent);
+    }
+
+    private void addToSummary(ReviewRatingSummaryId id, List<Review> group) {
+        long rateSum = 0;
+        long[] histogram = new long[ReviewRatingSummary.MAX_RATE];
+        for (Review review : group) {
+            rateSum += review.getRate();
+            histogram[review.getRate() - 1]++;
+        }
+        reviewRatingSummaryRepository.add(id.getDate(), id.getReviewTime().ordinal(), group.size(), rateSum,
+                histogram[0], histogram[1], histogram[2], histogram[3], histogram[4]);
+    }
+
+    private List<MealPlannerInfra.MealItem> findMeals(LocalDate date) {
+        Long retryAt = mealRetryAt.get(date);
+        if (retryAt != null && System.currentTimeMillis() < retryAt) return Collections.emptyList();
+
+        try {
+            List<MealPlannerInfra.MealItem> meals = mealPlannerInfra.getMealsOfDate(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+            mealRetryAt.remove(date);
+            return meals;
+        } catch (MealPlannerInfra.MealParseFailedException ex) {
+            // 식단표가 없어도 리뷰 작성은 실패하지 않습니다
+            log.warn("cannot attach dishes to reviews: no meal planner for {}, retrying after {} ms", date, MEAL_RETRY_MILLIS);
+            mealRetryAt.put(date, System.currentTimeMillis() + MEAL_RETRY_MILLIS);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * @return 요리 이름에 해당하는 (요리 id -> 요리 이름). 처음 보는 요리는 새로 등록합니다
+     */
+    private Map<Long, String> findDishes(Set<String> names) {
+        if (names.isEmpty()) return Collections.emptyMap();
+
+        List<Dish> found = dishRepository.findAllByNameIn(names);
+        if (found.size() < names.size()) {
+            Set<String> known = found.stream().map(Dish::getName).collect(Collectors.toSet());
+            names.stream().filter(name -> !known.contains(name)).forEach(dishRepository::insertIgnore);
+            found = dishRepository.findAllByNameIn(names);
+        }
+
+        Map<Long, String> dishes = new LinkedHashMap<>();
+        found.forEach(dish -> dishes.put(dish.getId(), dish.getName()));
+        return dishes;
+    }
+
+    // "*기장밥", "오향장육 (5.6.10)", "미소된장국5.6." 처럼 붙는 표시와 알레르기 번호를 뗍니다
+    private static String normalizeDish(String dish) {
+        return dish.replaceAll("\\(.*?\\)", "")
+                .replace("*", "")
+                .replaceAll("[\\d.\\s]+$", "")
+                .strip();
+    }
+}
@@ -1,10 +1,17 @@
 package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service;
 
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.request.WriteReviewRequestDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.DishRankingDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.ReviewListDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.ReviewSummaryDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.ReviewTermsDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.WeeklyReportDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.WriteReviewResponseDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.RatingBucket;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.ReviewTime;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.User;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 public interface ReviewService {
 
@@ -12,4 +19,54 @@ public interface ReviewService {
 
     ReviewListDto getReviewByDate(String date, ReviewTime reviewTime, int page);
 
+    /**
+     * <h2>리뷰 평점 요약</h2>
+     * {@code from} ~ {@code to} 기간의 리뷰 수, 평균 평점, 1~5점 분포를 반환합니다<br/>
+     * 날짜, 식사 시간별 집계 행만 읽으므로 하루는 O(1), 기간은 O(일 수) 입니다
+     * @param from 시작일 (yyyy-MM-dd)
+     * @param to 종료일 (yyyy-MM-dd, null 인 경우 시작일 하루)
+     * @param reviewTime 식사 시간 (null 인 경우 모든 식사)
+     * @return {@link ReviewSummaryDto}
+     */
+    ReviewSummaryDto getReviewSummary(String from, String to, ReviewTime reviewTime);
+
+
+    /**
+     * <h2>월별 최고/최저 요리</h2>
+     * 리뷰를 작성한 식사에 나온 요리별 평균 평점으로 상위, 하위 {@code size}개씩 반환합니다 (리뷰 3개 이상인 요리만)<br/>
+     * 메모리에 유지되는 요리별 집계에서 계산하므로 review 테이블을 읽지 않습니다
+     * @param month 조회할 달 (yyyy-MM, null 인 경우 이번 달)
+     * @param size 가져올 개수 (1 ~ 20 범위로 보정됩니다)
+     * @return {@link DishRankingDto}
+     */
+    DishRankingDto getDishRanking(String month, int size);
+
+    /**
+     * <h2>리뷰 내보내기 (관리자)</h2>
+     * 전체 리뷰를 id 순서로 한 행씩 응답에 바로 씁니다<br/>
+     * DB 커서로 나눠 읽으므로 리뷰 수와 상관없이 메모리 사용량이 일정합니다
+     * @param format ndjson 또는 csv
+     * @return 파일로 내려받는 {@link StreamingResponseBody}
+     */
+    ResponseEntity<StreamingResponseBody> exportReviews(String format);
+
+    /**
+     * <h2>주간 만족도 보고서</h2>
+     * 매주 월요일 미리 만들어 둔 보고서를 그대로 반환합니다. 조회 시에는 다시 계산하지 않습니다
+     * @param week 보고서를 볼 주에 속한 날짜 (yyyy-MM-dd, null 인 경우 지난주)
+     * @return {@link WeeklyReportDto}
+     */
+    WeeklyReportDto getWeeklyReport(String week);
+
+    /**
+     * <h2>평점 구간별 자주 나온 표현</h2>
+     * {@code from} ~ {@code to} 기간에 {@code bucket} 평점 리뷰에 가장 많이 들어간 표현(한글 2~3음절)을 반환합니다<br/>
+     * 메모리에 유지되는 날짜별 빈도만 합치므로 review 테이블을 읽지 않습니다
+     * @param from 시작일 (yyyy-MM-dd)
+     * @param to 종료일 (yyyy-MM-dd, null 인 경우 시작일 하루)
+     * @param bucket 평점 구간
+     * @param size 가져올 개수 (1 ~ 50 범위로 보정됩니다)
+     * @return {@link ReviewTermsDto}
+     */
+    ReviewTermsDto getTopTerms(String from, String to, RatingBucket bucket, int size);
 }
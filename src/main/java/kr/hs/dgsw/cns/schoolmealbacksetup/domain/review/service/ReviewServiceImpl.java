@@ -1,58 +1,103 @@
 package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service;
 
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.Review;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.ReviewRatingSummary;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.ReviewRatingSummaryId;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.WeeklyReviewReport;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.request.WriteReviewRequestDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.DishRankingDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.ReviewDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.ReviewListDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.ReviewSummaryDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.ReviewTermsDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.WeeklyReportDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.WriteReviewResponseDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.ReviewContent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.ReviewRatingSummaryRepository;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.ReviewRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.WeeklyReviewReportRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.RatingBucket;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.ReviewTime;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.User;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.export.ExportFormat;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.export.StreamingExporter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.transaction.Transactional;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Transactional
 @Service
 @RequiredArgsConstructor
 public class ReviewServiceImpl implements ReviewService {
+    private static final int MAX_SUMMARY_DAYS = 366;
+    private static final int MAX_DISH_RANKING_SIZE = 20;
+    private static final int MAX_TERMS_SIZE = 50;
+    private static final String[] REVIEW_EXPORT_COLUMNS = { "id", "user_id", "date", "review_time", "rate", "message", "flagged" };
+
     private final ReviewRepository reviewRepository;
+    private final ReviewRatingSummaryRepository reviewRatingSummaryRepository;
+    private final DishRatingBoard dishRatingBoard;
+    private final ReviewWriter reviewWriter;
+    private final ReviewedUserIndex reviewedUserIndex;
+    private final ReviewModerator reviewModerator;
+    private final StreamingExporter streamingExporter;
+    private final WeeklyReviewReportRepository weeklyReviewReportRepository;
+    private final ReviewTermIndex reviewTermIndex;
 
+    // 저장하는 쪽(ReviewWriter)이 식단표를 조회한 뒤 직접 트랜잭션을 엽니다
     @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public WriteReviewResponseDto writeReview(User author, WriteReviewRequestDto writeReviewRequest) {
+        ReviewModerator.Result moderated = reviewModerator.moderate(writeReviewRequest.getMessage());
 
         Review review = Review.builder()
-                .message(writeReviewRequest.getMessage())
+                .message(moderated.getMessage())
+                .flagged(moderated.isFlagged())
                 .user(author)
                 .date(LocalDate.now())
                 .rate(writeReviewRequest.getRate())
                 .reviewTime(writeReviewRequest.getReviewTime())
                 .build();
-        reviewRepository.save(review);
+        if (!reviewedUserIndex.claim(review.getDate(), review.getReviewTime(), author.getId()))
+            throw new Review.AlreadyReviewed();
+        try {
+            reviewWriter.write(review);
+        } catch (RuntimeException ex) {
+            reviewedUserIndex.release(review.getDate(), review.getReviewTime(), author.getId());
+            throw ex;
+        }
 
         return new WriteReviewResponseDto(
                 writeReviewRequest.getDate(),
                 writeReviewRequest.getReviewTime(),
-                writeReviewRequest.getMessage(),
+                review.getMessage(),
                 writeReviewRequest.getRate()
         );
     }
 
     @Override
+    @Cacheable(value = ReviewPageCache.NAME,
+            key = "T(kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service.ReviewPageCache).key(#date, #reviewTime, #page)",
+            condition = "#page < T(kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service.ReviewPageCache).CACHED_PAGES")
     public ReviewListDto getReviewByDate(String date, ReviewTime reviewTime, int page) {
         PageRequest reviewPageRequest = PageRequest.of(page , 10);
 
-        Page<Review> reviewPage = reviewRepository.findAllByDateAndReviewTime(LocalDate.parse(String.format(date, DateTimeFormatter.ofPattern("yyyy-MM-dd"))), reviewTime, reviewPageRequest);
+        Page<ReviewContent> reviewPage = reviewRepository.findContentsByDateAndReviewTime(LocalDate.parse(String.format(date, DateTimeFormatter.ofPattern("yyyy-MM-dd"))), reviewTime, reviewPageRequest);
         List<ReviewDto> responseList = reviewPage.getContent()
                 .stream().map(it -> ReviewDto.builder()
                         .message(it.getMessage())
@@ -62,4 +107,81 @@ public class ReviewServiceImpl implements ReviewService {
 
         return new ReviewListDto(page, reviewPage.getTotalPages(), responseList);
     }
-}
\ No newline at end of file
+
+    @Override
+    public ReviewSummaryDto getReviewSummary(String from, String to, ReviewTime reviewTime) {
+        LocalDate fromDate = LocalDate.parse(from);
+        LocalDate toDate = (to == null) ? fromDate : LocalDate.parse(to);
+        if (toDate.isBefore(fromDate) || ChronoUnit.DAYS.between(fromDate, toDate) >= MAX_SUMMARY_DAYS)
+            throw new ReviewRatingSummary.InvalidRange(MAX_SUMMARY_DAYS);
+
+        List<ReviewRatingSummary> summaries;
+        if (fromDate.equals(toDate) && reviewTime != null) {
+            summaries = reviewRatingSummaryRepository.findById(new ReviewRatingSummaryId(fromDate, reviewTime))
+                    .map(List::of)
+                    .orElseGet(List::of);
+        } else if (reviewTime != null) {
+            summaries = reviewRatingSummaryRepository.findAllByIdDateBetweenAndIdReviewTime(fromDate, toDate, reviewTime);
+        } else {
+            summaries = reviewRatingSummaryRepository.findAllByIdDateBetween(fromDate, toDate);
+        }
+
+        long count = 0;
+        long sum = 0;
+        long[] histogram = new long[ReviewRatingSummary.MAX_RATE];
+        for (ReviewRatingSummary summary : summaries) {
+            count += summary.getReviewCount();
+            sum += summary.getRateSum();
+            long[] rates = summary.getHistogram();
+            for (int i = 0; i < histogram.length; i++) histogram[i] += rates[i];
+        }
+        double average = (count == 0) ? 0 : Math.round(sum * 100.0 / count) / 100.0;
+
+        return ReviewSummaryDto.builder()
+                .from(fromDate.toString())
+                .to(toDate.toString())
+                .reviewTime(reviewTime)
+                .count(count)
+                .average(average)
+                .histogram(histogram)
+                .build();
+    }
+
+    @Override
+    public DishRankingDto getDishRanking(String month, int size) {
+        YearMonth yearMonth = (month == null) ? YearMonth.now() : YearMonth.parse(month);
+        int limit = Math.max(1, Math.min(size, MAX_DISH_RANKING_SIZE));
+        return dishRatingBoard.ranking(yearMonth, limit);
+    }
+
+    // 응답을 쓰는 동안 StreamingExporter 가 따로 읽기 전용 트랜잭션을 엽니다
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public ResponseEntity<StreamingResponseBody> exportReviews(String format) {
+        return streamingExporter.export("reviews", ExportFormat.of(format), REVIEW_EXPORT_COLUMNS,
+                reviewRepository::streamAllForExport,
+                row -> new Object[] { row.getId(), row.getUserId(), row.getDate(), row.getReviewTime(), row.getRate(),
+                        row.getMessage(), row.isFlagged() });
+    }
+
+    @Override
+    public WeeklyReportDto getWeeklyReport(String week) {
+        LocalDate weekStart = (week == null)
+                ? WeeklyReviewReport.lastCompletedWeek(LocalDate.now())
+                : WeeklyReviewReport.weekStartOf(LocalDate.parse(week));
+        return weeklyReviewReportRepository.findById(weekStart)
+                .map(WeeklyReviewReport::toDto)
+                .orElseThrow(WeeklyReviewReport.NotGenerated::new);
+    }
+
+    @Override
+    public ReviewTermsDto getTopTerms(String from, String to, RatingBucket bucket, int size) {
+        LocalDate fromDate = LocalDate.parse(from);
+        LocalDate toDate = (to == null) ? fromDate : LocalDate.parse(to);
+        if (toDate.isBefore(fromDate) || ChronoUnit.DAYS.between(fromDate, toDate) >= MAX_SUMMARY_DAYS)
+            throw new ReviewRatingSummary.InvalidRange(MAX_SUMMARY_DAYS);
+
+        int limit = Math.max(1, Math.min(size, MAX_TERMS_SIZE));
+        return reviewTermIndex.top(fromDate, toDate, bucket, limit);
+    }
+}
@@ -0,0 +1,158 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.event.ReviewMessageEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.ReviewTermDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.ReviewTermsDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.ReviewReportRow;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.ReviewRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.RatingBucket;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.util.NGramTokenizer;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.util.RebuildableState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * <h1>리뷰 표현 빈도</h1>
+ * 리뷰 내용을 한글 음절 2~3-gram 으로 나눠 날짜, 평점 구간별 (n-gram -> 그 n-gram 이 들어간 리뷰 수)를 메모리에 유지합니다<br/>
+ * 시작 시 최근 {@link #KEPT_DAYS}일 리뷰를 커서로 한 번 읽어 재구성하고, 이후에는 커밋된 리뷰 이벤트로 갱신하므로
+ * 기간별 상위 표현은 review 테이블을 읽지 않고 날짜별 빈도를 합쳐 계산합니다<br/>
+ * 재구성은 새 빈도표를 따로 만든 뒤 교체하므로 재구성 중에도 이전 빈도표가 그대로 조회됩니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewTermIndex {
+
+    static final int KEPT_DAYS = 366;
+    private static final int MIN_GRAM = 2;
+    private static final int MAX_GRAM = 3;
+    // 한 번만 나온 표현은 대부분 우연한 음절 조합이므로 결과에서 제외합니다
+    private static final int MIN_REVIEWS = 2;
+
+    private final ReviewRepository reviewRepository;
+
+    private final RebuildableState<Map<LocalDate, DayTerms>> days = new RebuildableState<>(new ConcurrentHashMap<>());
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDate today = LocalDate.now();
+        days.rebuild(() -> {
+            Map<LocalDate, DayTerms> fresh = new ConcurrentHashMap<>();
+            try (Stream<ReviewReportRow> rows = reviewRepository.streamForReport(today.minusDays(KEPT_DAYS - 1), today)) {
+                rows.forEach(row -> {
+                    if (!row.isFlagged()) add(fresh, row.getDate(), row.getRate(), row.getMessage());
+                });
+            }
+            return fresh;
+        });
+        log.info("review term index rebuilt: {} days", days.get().size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWritten(ReviewMessageEvent event) {
+        // n-gram 은 한 번만 나누고, 재구성 중이면 같은 결과를 새 빈도표에도 더합니다
+        Set<String> terms = terms(event.getMessage());
+        RatingBucket bucket = RatingBucket.of(event.getRate());
+        days.update(current -> current.computeIfAbsent(event.getDate(), key -> new DayTerms()).add(bucket, terms));
+    }
+
+    @Scheduled(cron = "0 0 3 * * *")
+    public void evictExpired() {
+        LocalDate oldest = LocalDate.now().minusDays(KEPT_DAYS - 1);
+        days.update(current -> current.keySet().removeIf(date -> date.isBefore(oldest)));
+    }
+
+    /**
+     * {@code from} ~ {@code to} 의 날짜별 빈도를 합쳐, {@code bucket} 리뷰에 가장 많이 나온 표현 {@code size}개를 반환합니다<br/>
+     * 항상 더 긴 표현의 일부로만 나온 n-gram 은 긴 표현과 중복되므로 빼고 다음 표현을 넣습니다
+     */
+    public ReviewTermsDto top(LocalDate from, LocalDate to, RatingBucket bucket, int size) {
+        Map<String, Long> counts = new HashMap<>();
+        long reviews = 0;
+        Map<LocalDate, DayTerms> current = days.get();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            DayTerms day = current.get(date);
+            if (day != null) reviews += day.mergeInto(bucket, counts);
+        }
+
+        List<Map.Entry<String, Long>> ranked = counts.entrySet().stream()
+                .filter(entry -> entry.getValue() >= MIN_REVIEWS)
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(entry -> entry.getKey().length(), Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .collect(Collectors.toList());
+
+        List<ReviewTermDto> terms = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : ranked) {
+            if (terms.size() == size) break;
+            if (isPartOfSelected(entry.getKey(), entry.getValue(), terms)) continue;
+            double ratio = Math.round(entry.getValue() * 100.0 / reviews) / 100.0;
+            terms.add(new ReviewTermDto(entry.getKey(), entry.getValue(), ratio));
+        }
+        return new ReviewTermsDto(from.toString(), to.toString(), bucket, reviews, terms);
+    }
+
+    private static void add(Map<LocalDate, DayTerms> days, LocalDate date, int rate, String message) {
+        days.computeIfAbsent(date, key -> new DayTerms()).add(RatingBucket.of(rate), terms(message));
+    }
+
+    /**
+     * 한 리뷰 안에서 여러 번 나와도 한 번만 셉니다. 한글 음절로만 이뤄진 n-gram 만 사용합니다 (ㅋㅋ, 숫자, 영문 제외)
+     */
+    static Set<String> terms(String message) {
+        Set<String> terms = new HashSet<>();
+        for (String gram : NGramTokenizer.tokenize(message, MIN_GRAM, MAX_GRAM)) {
+            if (gram.length() >= MIN_GRAM && isHangul(gram)) terms.add(gram);
+        }
+        return terms;
+    }
+
+    private static boolean isHangul(String gram) {
+        for (int i = 0; i < gram.length(); i++) {
+            char c = gram.charAt(i);
+            if (c < '가' || c > '힣') return false;
+        }
+        return true;
+    }
+
+    // 상위 표현은 리뷰 수가 같으면 긴 것부터 뽑히므로, 이미 뽑힌 긴 표현과 리뷰 수가 같은 부분 문자열은 따로 나온 적이 없습니다
+    private static boolean isPartOfSelected(String term, long count, List<ReviewTermDto> selected) {
+        for (ReviewTermDto dto : selected) {
+            if (dto.getReviews() == count && dto.getTerm().contains(term)) return true;
+        }
+        return false;
+    }
+
+    private static class DayTerms {
+        private final Map<RatingBucket, Map<String, Integer>> counts = new EnumMap<>(RatingBucket.class);
+        private final Map<RatingBucket, Integer> reviews = new EnumMap<>(RatingBucket.class);
+
+        private synchronized void add(RatingBucket bucket, Set<String> terms) {
+            reviews.merge(bucket, 1, Integer::sum);
+            Map<String, Integer> bucketCounts = counts.computeIfAbsent(bucket, key -> new HashMap<>());
+            for (String term : terms) bucketCounts.merge(term, 1, Integer::sum);
+        }
+
+        /**
+         * @return 이 날짜의 {@code bucket} 리뷰 수
+         */
+        private synchronized int mergeInto(RatingBucket bucket, Map<String, Long> target) {
+            Map<String, Integer> bucketCounts = counts.get(bucket);
+            if (bucketCounts != null) bucketCounts.forEach((term, count) -> target.merge(term, (long) count, Long::sum));
+            return reviews.getOrDefault(bucket, 0);
+        }
+    }
+}
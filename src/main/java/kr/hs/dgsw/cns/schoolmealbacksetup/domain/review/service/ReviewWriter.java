@@ -0,0 +1,20 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.Review;
+
+/**
+ * <h1>리뷰 저장 전략</h1>
+ * 검증이 끝난 리뷰를 실제 저장소에 반영하는 방식을 추상화합니다
+ * @see DirectReviewWriter
+ * @see QueuedReviewWriter
+ */
+public interface ReviewWriter {
+
+    /**
+     * @throws kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.Review.IngestQueueFull
+     * 저장 대기열이 가득 찬 경우 발생합니다
+     * @throws kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.Review.AlreadyReviewed
+     * 바로 저장하는 경우, 같은 식사에 이미 작성한 리뷰가 있으면 발생합니다
+     */
+    void write(Review review);
+}
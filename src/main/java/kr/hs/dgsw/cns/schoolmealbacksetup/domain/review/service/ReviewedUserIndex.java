@@ -0,0 +1,111 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.ReviewRatingSummaryId;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.ReviewRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.ReviewedUser;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.ReviewTime;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.util.RebuildableState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h1>식사별 리뷰 작성자 색인</h1>
+ * 최근 {@link #KEPT_DAYS}일의 (날짜, 식사 시간)마다 리뷰를 작성한 사용자 id 를 {@link BitSet} 으로 유지해,
+ * 같은 식사에 다시 작성하려는 요청 대부분을 DB 조회 없이 거절합니다<br/>
+ * 색인은 이 인스턴스가 받은 요청만 알기 때문에 최종 판단은 review 의 (user_id, date, review_time) 유니크 제약이 합니다<br/>
+ * 재구성은 새 색인을 따로 만든 뒤 교체하므로 재구성 중에도 이전 색인으로 거절합니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewedUserIndex {
+
+    // 리뷰는 작성한 날짜로 저장되므로 자정 전후의 요청을 위해 전날까지만 유지합니다
+    private static final int KEPT_DAYS = 2;
+
+    private final ReviewRepository reviewRepository;
+
+    private final RebuildableState<Map<ReviewRatingSummaryId, BitSet>> reviewed = new RebuildableState<>(new ConcurrentHashMap<>());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int[] count = new int[1];
+        reviewed.rebuild(() -> {
+            Map<ReviewRatingSummaryId, BitSet> fresh = new ConcurrentHashMap<>();
+            for (ReviewedUser user : reviewRepository.findReviewedUsersSince(oldestKeptDate())) {
+                if (mark(fresh, new ReviewRatingSummaryId(user.getDate(), user.getReviewTime()), user.getUserId())) count[0]++;
+            }
+            return fresh;
+        });
+        log.info("reviewed user index rebuilt: {} reviews", count[0]);
+    }
+
+    /**
+     * 사용자가 이 식사에 리뷰를 작성한 것으로 표시합니다<br/>
+     * 호출한 트랜잭션이 되돌려지면 표시를 지우므로 저장에 실패한 사용자는 다시 작성할 수 있습니다
+     * @return 이미 작성한 사용자면 false
+     */
+    public boolean claim(LocalDate date, ReviewTime reviewTime, long userId) {
+        ReviewRatingSummaryId key = new ReviewRatingSummaryId(date, reviewTime);
+        if (!reviewed.apply(users -> mark(users, key, userId))) return false;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) reviewed.update(users -> release(users, key, userId));
+                }
+            });
+        }
+
+        LocalDate oldest = oldestKeptDate();
+        reviewed.get().keySet().removeIf(kept -> kept.getDate().isBefore(oldest));
+        return true;
+    }
+
+    /**
+     * 트랜잭션 밖에서 저장하다 실패한 경우처럼, {@link #claim} 한 표시를 직접 지웁니다
+     */
+    public void release(LocalDate date, ReviewTime reviewTime, long userId) {
+        ReviewRatingSummaryId key = new ReviewRatingSummaryId(date, reviewTime);
+        reviewed.update(users -> release(users, key, userId));
+    }
+
+    /**
+     * @return 새로 표시했으면 true. BitSet 에 담을 수 없는 id 는 유니크 제약에 맡기고 true 를 반환합니다
+     */
+    private static boolean mark(Map<ReviewRatingSummaryId, BitSet> reviewed, ReviewRatingSummaryId key, long userId) {
+        if (userId < 0 || userId > Integer.MAX_VALUE) return true;
+
+        BitSet users = reviewed.computeIfAbsent(key, ignored -> new BitSet());
+        synchronized (users) {
+            if (users.get((int) userId)) return false;
+            users.set((int) userId);
+            return true;
+        }
+    }
+
+    private static void release(Map<ReviewRatingSummaryId, BitSet> reviewed, ReviewRatingSummaryId key, long userId) {
+        if (userId < 0 || userId > Integer.MAX_VALUE) return;
+
+        BitSet users = reviewed.get(key);
+        if (users == null) return;
+        synchronized (users) {
+            users.clear((int) userId);
+        }
+    }
+
+    private static LocalDate oldestKeptDate() {
+        return LocalDate.now().minusDays(KEPT_DAYS - 1);
+    }
+}
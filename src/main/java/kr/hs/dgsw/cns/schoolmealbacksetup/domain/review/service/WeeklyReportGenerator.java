@@ -0,0 +1,165 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.ReviewRatingSummary;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.WeeklyReviewReport;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.WeeklyReportDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.ReviewReportRow;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.ReviewRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.WeeklyReviewReportRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.ReviewTime;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.config.WeeklyReportConfiguration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * <h1>주간 만족도 보고서 생성</h1>
+ * 매주 월요일, 지난주 리뷰를 커서로 한 번만 훑으며 식사별 리뷰 수, 평균, 분포와 불만 리뷰 상위 {@code complaints}개를 계산해
+ * {@link WeeklyReviewReport} 로 저장합니다<br/>
+ * 이미 보고서가 있는 주는 건너뛰므로 다시 실행해도 빠진 주만 계산하고, 서버가 꺼져 있던 주도 시작할 때 채웁니다<br/>
+ * 시작할 때의 계산은 시작을 늦추지 않도록 스케줄러 스레드에서 실행합니다.
+ * 여러 인스턴스가 같은 주를 계산하면 먼저 저장한 보고서만 남고, 한 주의 계산이 실패해도 나머지 주는 계속 계산합니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "review.weekly-report", name = "enabled", havingValue = "true")
+public class WeeklyReportGenerator {
+
+    // 평점이 낮은 순, 같으면 내용이 긴 순
+    private static final Comparator<ReviewReportRow> COMPLAINT_ORDER = Comparator.comparingInt(ReviewReportRow::getRate)
+            .thenComparing(row -> row.getMessage().length(), Comparator.reverseOrder());
+
+    private final WeeklyReportConfiguration weeklyReportConfiguration;
+    private final ReviewRepository reviewRepository;
+    private final WeeklyReviewReportRepository weeklyReviewReportRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUp() {
+        taskScheduler.schedule(this::generate, Instant.now());
+    }
+
+    @Scheduled(cron = "${review.weekly-report.cron:0 30 0 * * MON}")
+    public synchronized void generate() {
+        LocalDate lastWeek = WeeklyReviewReport.lastCompletedWeek(LocalDate.now());
+        LocalDate firstWeek = lastWeek.minusWeeks(Math.max(0, weeklyReportConfiguration.getCatchUpWeeks() - 1));
+        Set<LocalDate> generated;
+        try {
+            generated = new HashSet<>(weeklyReviewReportRepository.findWeekStartsBetween(firstWeek, lastWeek));
+        } catch (RuntimeException ex) {
+            log.error("failed to generate weekly review reports up to {}", lastWeek, ex);
+            return;
+        }
+
+        int created = 0;
+        for (LocalDate week = firstWeek; !week.isAfter(lastWeek); week = week.plusWeeks(1)) {
+            if (generated.contains(week)) continue;
+
+            LocalDate weekStart = week;
+            try {
+                Integer inserted = transactionTemplate.execute(status -> {
+                    WeeklyReviewReport report = WeeklyReviewReport.of(weekStart, LocalDateTime.now(), compute(weekStart));
+                    return weeklyReviewReportRepository.insertIgnore(report.getWeekStart(), report.getGeneratedAt(), report.getReport());
+                });
+                if (inserted != null && inserted > 0) created++;
+            } catch (RuntimeException ex) {
+                // 다음 실행에서 다시 계산합니다
+                log.error("failed to generate weekly review report for {}", weekStart, ex);
+            }
+        }
+
+        if (created > 0) log.info("generated {} weekly review reports up to {}", created, lastWeek);
+    }
+
+    // 트랜잭션 안에서 호출됩니다
+    private WeeklyReportDto compute(LocalDate weekStart) {
+        LocalDate weekEnd = weekStart.plusDays(6);
+        Map<ReviewTime, MealTally> tallies = new EnumMap<>(ReviewTime.class);
+        for (ReviewTime reviewTime : ReviewTime.values()) tallies.put(reviewTime, new MealTally());
+
+        try (Stream<ReviewReportRow> rows = reviewRepository.streamForReport(weekStart, weekEnd)) {
+            rows.forEach(row -> tallies.get(row.getReviewTime()).add(row));
+        }
+
+        long count = 0;
+        long sum = 0;
+        List<WeeklyReportDto.MealReport> meals = new ArrayList<>();
+        for (Map.Entry<ReviewTime, MealTally> entry : tallies.entrySet()) {
+            MealTally tally = entry.getValue();
+            count += tally.count;
+            sum += tally.sum;
+            meals.add(WeeklyReportDto.MealReport.builder()
+                    .reviewTime(entry.getKey())
+                    .count(tally.count)
+                    .average(average(tally.sum, tally.count))
+                    .histogram(tally.histogram)
+                    .complaints(tally.topComplaints())
+                    .build());
+        }
+
+        return WeeklyReportDto.builder()
+                .weekStart(weekStart.toString())
+                .weekEnd(weekEnd.toString())
+                .generatedAt(LocalDateTime.now().withNano(0).toString())
+                .count(count)
+                .average(average(sum, count))
+                .meals(meals)
+                .build();
+    }
+
+    private static double average(long sum, long count) {
+        return (count == 0) ? 0 : Math.round(sum * 100.0 / count) / 100.0;
+    }
+
+    /**
+     * 식사 하나의 합계. 불만 리뷰는 크기 {@code complaints} 의 힙에 상위만 남기므로 리뷰 수와 상관없이 메모리가 일정합니다
+     */
+    private class MealTally {
+        private final long[] histogram = new long[ReviewRatingSummary.MAX_RATE];
+        // 남긴 것 중 순위가 가장 낮은 리뷰가 맨 앞에 옵니다
+        private final PriorityQueue<ReviewReportRow> complaints = new PriorityQueue<>(COMPLAINT_ORDER.reversed());
+        private long count;
+        private long sum;
+
+        private void add(ReviewReportRow row) {
+            count++;
+            sum += row.getRate();
+            histogram[row.getRate() - ReviewRatingSummary.MIN_RATE]++;
+
+            if (row.getRate() > weeklyReportConfiguration.getComplaintMaxRate() || row.isFlagged()
+                    || row.getMessage() == null || row.getMessage().isBlank()) return;
+            if (complaints.size() < weeklyReportConfiguration.getComplaints()) {
+                complaints.offer(row);
+            } else if (!complaints.isEmpty() && COMPLAINT_ORDER.compare(row, complaints.peek()) < 0) {
+                complaints.poll();
+                complaints.offer(row);
+            }
+        }
+
+        private List<WeeklyReportDto.Complaint> topComplaints() {
+            return complaints.stream()
+                    .sorted(COMPLAINT_ORDER)
+                    .map(row -> WeeklyReportDto.Complaint.builder()
+                            .date(row.getDate().toString())
+                            .rate(row.getRate())
+                            .message(row.getMessage())
+                            .build())
+                    .collect(Collectors.toList());
+        }
+    }
+}
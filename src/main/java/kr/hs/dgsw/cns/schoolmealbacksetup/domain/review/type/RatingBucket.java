@@ -0,0 +1,13 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type;
+
+/**
+ * 리뷰 평점 구간. 낮음(1~2점), 보통(3점), 높음(4~5점)
+ */
+public enum RatingBucket {
+    LOW, MID, HIGH;
+
+    public static RatingBucket of(int rate) {
+        if (rate <= 2) return LOW;
+        return (rate == 3) ? MID : HIGH;
+    }
+}
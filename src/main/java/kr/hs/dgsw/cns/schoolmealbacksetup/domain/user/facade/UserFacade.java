@@ -3,6 +3,7 @@ package kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.facade;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.User;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
@@ -15,6 +16,16 @@ public class UserFacade {
         return (User)SecurityContextHolder.getContext().getAuthentication().getPrincipal();
     }
 
+    /**
+     * 로그인하지 않아도 호출할 수 있는 API 에서 사용합니다
+     * @return 로그인한 사용자. 익명 사용자면 null
+     */
+    public User findCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User)) return null;
+        return (User) authentication.getPrincipal();
+    }
+
     public void verifyQueryUserEquals(long userId) {
         User queryUser = getCurrentUser();
         if(!queryUser.getId().equals(userId)) throw new User.UnauthorizedException();
@@ -0,0 +1,45 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 배치 작업이 마지막으로 처리한 위치 ((시각, id) keyset)
+ * 처리한 청크와 같은 트랜잭션에서 저장되므로 재시작 후 이어서 진행합니다
+ */
+@Getter
+@AllArgsConstructor @NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "batch_cursor")
+public class BatchCursor {
+
+    public static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Id
+    @Column(name = "job_name", length = 64)
+    private String jobName;
+
+    @Column(nullable = false)
+    private LocalDateTime lastTime;
+
+    @Column(nullable = false)
+    private Long lastId;
+
+    private LocalDateTime updatedAt;
+
+    public static BatchCursor beginning(String jobName) {
+        return new BatchCursor(jobName, BEGINNING, 0L, null);
+    }
+
+    public void advance(LocalDateTime lastTime, long lastId) {
+        this.lastTime = lastTime;
+        this.lastId = lastId;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
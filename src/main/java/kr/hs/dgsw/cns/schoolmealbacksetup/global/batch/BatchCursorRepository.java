@@ -0,0 +1,8 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.batch;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BatchCursorRepository extends JpaRepository<BatchCursor, String> {
+}
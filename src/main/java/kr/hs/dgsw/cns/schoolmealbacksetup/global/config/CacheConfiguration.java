@@ -1,13 +1,18 @@
 package kr.hs.dgsw.cns.schoolmealbacksetup.global.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service.ReviewPageCache;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -20,13 +25,20 @@ public class CacheConfiguration {
     };
 
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(@Value("${review.page-cache.max-size:1000}") long reviewPageMaxSize,
+                                     @Value("${review.page-cache.ttl:10m}") Duration reviewPageTtl) {
         SimpleCacheManager simpleCacheManager = new SimpleCacheManager();
         List<Cache> caches = new ArrayList<>();
 
         for(String storageName : CACHE_STORAGE_NAMES)
             caches.add(new ConcurrentMapCache(storageName));
 
+        // 리뷰 목록은 (날짜, 식사 시간, 페이지)마다 쌓이므로 크기를 제한합니다
+        caches.add(new CaffeineCache(ReviewPageCache.NAME, Caffeine.newBuilder()
+                .maximumSize(reviewPageMaxSize)
+                .expireAfterWrite(reviewPageTtl)
+                .build()));
+
         simpleCacheManager.setCaches(caches);
         return simpleCacheManager;
     }
@@ -0,0 +1,16 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyConfiguration {
+    private String store = "memory";
+    private Duration ttl = Duration.ofHours(24);
+    private int maxEntries = 10000;
+}
@@ -0,0 +1,18 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "menu.archive")
+public class MenuArchiveConfiguration {
+    private boolean enabled = false;
+    // 결정(accepted_at) 후 이 기간이 지난 메뉴를 보관합니다
+    private Duration deniedRetention = Duration.ofDays(7);
+    private Duration allowedRetention = Duration.ofDays(90);
+    private int chunkSize = 500;
+}
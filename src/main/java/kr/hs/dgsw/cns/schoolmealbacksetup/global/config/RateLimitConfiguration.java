@@ -0,0 +1,39 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitConfiguration {
+    private boolean enabled = true;
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    private int maxBuckets = 100000;
+    private List<Rule> rules = new ArrayList<>(List.of(
+            new Rule("POST", "/menu", 5, Duration.ofMinutes(1)),
+            new Rule("*", "/menu/*/votes", 30, Duration.ofMinutes(1)),
+            new Rule("POST", "/reviews", 5, Duration.ofMinutes(1))
+    ));
+
+    /**
+     * {@code method}("*" 는 모든 메소드) + {@code pattern}(Ant 패턴)에 해당하는 요청을
+     * 사용자마다 {@code period} 동안 최대 {@code capacity}번까지 허용합니다
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rule {
+        private String method;
+        private String pattern;
+        private int capacity;
+        private Duration period;
+    }
+}
@@ -0,0 +1,16 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "review.ingest.async")
+public class ReviewIngestConfiguration {
+    private boolean enabled = false;
+    // 큐가 가득 차면 503 으로 거절합니다
+    private int queueCapacity = 2000;
+    // 한 트랜잭션에서 JDBC batch 로 저장할 최대 리뷰 수
+    private int batchSize = 100;
+}
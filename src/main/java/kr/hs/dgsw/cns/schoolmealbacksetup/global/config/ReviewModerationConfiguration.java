@@ -0,0 +1,16 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "review.moderation")
+public class ReviewModerationConfiguration {
+    private boolean enabled = true;
+    // 금칙어 목록 위치. 한 줄에 한 단어, '#' 은 주석, '!' 로 시작하면 금칙어를 포함하지만 허용하는 단어
+    private String words = "classpath:moderation/words.txt";
+    // mask | flag | reject
+    private String policy = "mask";
+}
@@ -0,0 +1,18 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "menu.voting-window")
+public class VotingWindowConfiguration {
+    private boolean enabled = false;
+    private Duration duration = Duration.ofDays(7);
+    // 투표 수가 이 값 이상이면 ALLOWED, 아니면 DENIED. 0 이하이면 모두 DENIED
+    private int acceptThreshold = 0;
+    private int chunkSize = 500;
+}
@@ -0,0 +1,17 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "review.weekly-report")
+public class WeeklyReportConfiguration {
+    private boolean enabled = false;
+    // 보고서가 없는 주를 지난주부터 최대 몇 주 전까지 채울지 (처음 켜거나 서버가 꺼져 있던 경우)
+    private int catchUpWeeks = 8;
+    // 식사별로 보여줄 불만 리뷰 수와, 불만으로 보는 최대 평점
+    private int complaints = 5;
+    private int complaintMaxRate = 2;
+}
@@ -2,6 +2,9 @@ package kr.hs.dgsw.cns.schoolmealbacksetup.global.exception;
 
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.MenuRequest;
 import kr.hs.dgsw.cns.schoolmealbacksetup.global.response.ExceptionDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.ratelimit.RateLimitExceededException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -47,6 +50,19 @@ public class ExceptionAdvice {
                 .body(exceptionDto);
     }
 
+    @ExceptionHandler(RateLimitExceededException.class)
+    protected ResponseEntity<ExceptionDto> rateLimitExceededException(RateLimitExceededException e) {
+        return ResponseEntity.status(e.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new ExceptionDto(e.getMessage()));
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    protected ResponseEntity<ExceptionDto> optimisticLockingFailureException(OptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ExceptionDto("다른 요청과 충돌했습니다. 다시 시도해주세요."));
+    }
+
     @ExceptionHandler(MenuRequest.CannotFound.class)
     protected ResponseEntity<ExceptionDto> menuCannotFoundException(MenuRequest.CannotFound cannotFound) {
         return sendException(cannotFound);
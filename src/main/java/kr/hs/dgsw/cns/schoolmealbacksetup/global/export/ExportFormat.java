@@ -0,0 +1,30 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.export;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.exception.BusinessException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 내보내기 형식. NDJSON 은 한 줄에 JSON 객체 하나, CSV 는 첫 줄이 컬럼 이름입니다
+ */
+@Getter
+@AllArgsConstructor
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv; charset=UTF-8", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    public static ExportFormat of(String format) {
+        for (ExportFormat value : values()) {
+            if (value.extension.equalsIgnoreCase(format)) return value;
+        }
+        throw new UnsupportedFormat();
+    }
+
+    public static class UnsupportedFormat extends BusinessException {
+        public UnsupportedFormat() { super(HttpStatus.BAD_REQUEST, "지원하지 않는 내보내기 형식입니다 (ndjson, csv)"); }
+    }
+}
@@ -0,0 +1,108 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 행을 받는 대로 {@link ExportFormat} 형식으로 출력 스트림에 씁니다. 행을 모아두지 않습니다<br/>
+ * 값은 null, 숫자, boolean 외에는 {@code toString()} 으로 씁니다 (LocalDate 는 ISO 형식, enum 은 이름)
+ */
+public class ExportWriter implements Closeable {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final String[] columns;
+    private final JsonGenerator json;
+    private final Writer csv;
+    private boolean empty = true;
+
+    public ExportWriter(ExportFormat format, OutputStream outputStream, String... columns) throws IOException {
+        this.columns = columns;
+        if (format == ExportFormat.NDJSON) {
+            json = JSON_FACTORY.createGenerator(outputStream, JsonEncoding.UTF8);
+            json.setRootValueSeparator(new SerializedString("\n"));
+            csv = null;
+        } else {
+            json = null;
+            csv = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            // 엑셀에서 한글이 깨지지 않도록 BOM 을 붙입니다
+            csv.write('\uFEFF');
+            writeCsvLine(columns);
+        }
+    }
+
+    public void row(Object... values) throws IOException {
+        empty = false;
+        if (json != null) {
+            json.writeStartObject();
+            for (int i = 0; i < columns.length; i++) {
+                json.writeFieldName(columns[i]);
+                writeJsonValue(values[i]);
+            }
+            json.writeEndObject();
+        } else {
+            writeCsvLine(values);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (json != null) {
+            if (!empty) json.writeRaw('\n');
+            json.close();
+        } else {
+            csv.flush();
+        }
+    }
+
+    private void writeJsonValue(Object value) throws IOException {
+        if (value == null) json.writeNull();
+        else if (value instanceof Boolean) json.writeBoolean((Boolean) value);
+        else if (value instanceof Long || value instanceof Integer) json.writeNumber(((Number) value).longValue());
+        else if (value instanceof Number) json.writeNumber(value.toString());
+        else json.writeString(value.toString());
+    }
+
+    private void writeCsvLine(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) csv.write(',');
+            if (values[i] instanceof CharSequence) writeCsvText(values[i].toString());
+            else if (values[i] != null) writeCsvValue(values[i].toString());
+        }
+        csv.write("\r\n");
+    }
+
+    // 사용자가 쓴 글이 스프레드시트에서 수식으로 실행되지 않도록 '=', '+', '-', '@' (와 탭, CR) 로 시작하면
+    // 앞에 작은따옴표를 붙이고 따옴표로 감쌉니다. 숫자 같은 다른 값은 그대로 씁니다
+    private void writeCsvText(String value) throws IOException {
+        if (value.isEmpty() || FORMULA_PREFIXES.indexOf(value.charAt(0)) < 0) {
+            writeCsvValue(value);
+            return;
+        }
+        csv.write("\"'");
+        csv.write(value.replace("\"", "\"\""));
+        csv.write('"');
+    }
+
+    private void writeCsvValue(String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            csv.write(value);
+            return;
+        }
+        csv.write('"');
+        csv.write(value.replace("\"", "\"\""));
+        csv.write('"');
+    }
+}
@@ -0,0 +1,77 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.export;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * <h1>테이블 내보내기</h1>
+ * 읽기 전용 트랜잭션 안에서 {@code Stream} 을 반환하는 repository 메소드(forward-only 커서)를 열고,
+ * 한 행씩 {@link ExportWriter} 로 응답에 씁니다<br/>
+ * 행을 모으지 않고 projection 으로 읽어 영속성 컨텍스트에도 쌓이지 않으므로, 테이블 크기와 상관없이 메모리 사용량이 일정합니다<br/>
+ * repository 메소드에는 {@link #FETCH_SIZE} 힌트를 붙여야 하며,
+ * MySQL 은 datasource url 에 {@code useCursorFetch=true} 가 있어야 서버 커서로 나눠 읽습니다<br/>
+ * 없으면 Connector/J 가 fetch size 를 무시하고 결과 전체를 메모리에 올리므로, 시작할 때 확인해서 실패합니다
+ */
+@Component
+public class StreamingExporter {
+
+    // 커서에서 한 번에 가져오는 행 수 (@QueryHint 에 쓰기 위해 문자열입니다)
+    public static final String FETCH_SIZE = "500";
+    private static final String MYSQL_URL_PREFIX = "jdbc:mysql:";
+
+    private final TransactionTemplate transactionTemplate;
+
+    public StreamingExporter(PlatformTransactionManager transactionManager,
+                             @Value("${spring.datasource.url:}") String datasourceUrl) {
+        verifyCursorFetch(datasourceUrl);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    static void verifyCursorFetch(String datasourceUrl) {
+        if (!datasourceUrl.startsWith(MYSQL_URL_PREFIX)) return;
+        if (!datasourceUrl.toLowerCase(Locale.ROOT).contains("usecursorfetch=true"))
+            throw new IllegalStateException("spring.datasource.url must contain useCursorFetch=true "
+                    + "so that exports read " + FETCH_SIZE + " rows at a time instead of loading the whole result");
+    }
+
+    /**
+     * @param name 내려받을 파일 이름 (날짜와 확장자가 붙습니다)
+     * @param rows 트랜잭션 안에서 호출되며, 반환된 Stream 은 다 쓴 뒤 닫습니다
+     * @param values 행 하나를 {@code columns} 순서의 값으로 바꿉니다
+     */
+    public <T> ResponseEntity<StreamingResponseBody> export(String name, ExportFormat format, String[] columns,
+                                                            Supplier<Stream<T>> rows, Function<T, Object[]> values) {
+        StreamingResponseBody body = outputStream -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<T> stream = rows.get();
+                 ExportWriter writer = new ExportWriter(format, outputStream, columns)) {
+                Iterator<T> iterator = stream.iterator();
+                while (iterator.hasNext()) writer.row(values.apply(iterator.next()));
+            } catch (IOException ex) {
+                // 대부분 클라이언트가 연결을 끊은 경우입니다
+                throw new UncheckedIOException(ex);
+            }
+        });
+
+        String filename = name + "-" + LocalDate.now() + "." + format.getExtension();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, format.getContentType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,191 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.User;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.idempotency.IdempotencyStore;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.idempotency.StoredResponse;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.response.ExceptionDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@code Idempotency-Key} 헤더가 있는 쓰기 요청의 최초 성공 응답을 저장해 두었다가,
+ * 같은 키로 재전송된 요청에는 컨트롤러를 거치지 않고 저장된 응답을 그대로 돌려줍니다<br/>
+ * 키는 요청 본문 해시와 함께 저장되므로 같은 키로 다른 본문을 보내면 422 로 거절합니다
+ * @implNote 인증된 사용자 정보로 키 범위를 나누므로 {@link JwtTokenFilter} 뒤에 등록되어야 합니다
+ */
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final List<String> TARGET_PATTERNS = List.of("/menu", "/menu/*/votes");
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (request.getHeader(HEADER) == null) return true;
+        if (!HttpMethod.POST.matches(request.getMethod())) return true;
+        return TARGET_PATTERNS.stream()
+                .noneMatch(pattern -> PATH_MATCHER.match(pattern, request.getServletPath()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = scopedKey(request);
+        // 해시를 구하려면 본문을 먼저 읽어야 하므로, 컨트롤러가 다시 읽을 수 있도록 보관합니다
+        CachedBodyRequest cached = new CachedBodyRequest(request);
+        String fingerprint = fingerprint(cached.body);
+
+        if (isMismatched(key, fingerprint)) {
+            sendError(response, HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key 로 다른 요청이 전송되었습니다");
+            return;
+        }
+        Optional<StoredResponse> stored = idempotencyStore.find(key);
+        if (stored.isPresent()) {
+            replay(stored.get(), response);
+            return;
+        }
+        if (!idempotencyStore.reserve(key, fingerprint)) {
+            // 조회와 선점 사이에 다른 본문으로 선점된 경우도 422 로 알립니다
+            if (isMismatched(key, fingerprint)) {
+                sendError(response, HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key 로 다른 요청이 전송되었습니다");
+            } else {
+                sendError(response, HttpStatus.CONFLICT, "같은 요청이 이미 처리 중입니다");
+            }
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean succeeded = false;
+        try {
+            filterChain.doFilter(cached, wrapper);
+            succeeded = HttpStatus.valueOf(wrapper.getStatus()).is2xxSuccessful();
+            if (succeeded) {
+                idempotencyStore.complete(key, new StoredResponse(
+                        wrapper.getStatus(), wrapper.getContentType(), wrapper.getContentAsByteArray()));
+            }
+        } finally {
+            if (!succeeded) idempotencyStore.release(key);
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    // 사용자, 메소드, 경로 별로 키를 분리해 다른 요청의 응답이 재사용되지 않도록 합니다
+    private String scopedKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String owner = (authentication != null && authentication.getPrincipal() instanceof User)
+                ? String.valueOf(((User) authentication.getPrincipal()).getId())
+                : "anonymous";
+        return String.join(":", owner, request.getMethod(), request.getServletPath(), request.getHeader(HEADER));
+    }
+
+    private void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.getStatus());
+        if (stored.getContentType() != null) response.setContentType(stored.getContentType());
+        if (stored.getBody() != null && stored.getBody().length > 0) response.getOutputStream().write(stored.getBody());
+    }
+
+    private boolean isMismatched(String key, String fingerprint) {
+        return idempotencyStore.findFingerprint(key)
+                .map(stored -> !stored.equals(fingerprint))
+                .orElse(false);
+    }
+
+    private static String fingerprint(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException ex) {
+            // 모든 JVM 은 SHA-256 을 제공해야 합니다
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private void sendError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setCharacterEncoding("UTF-8");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getWriter(), new ExceptionDto(message));
+    }
+
+    /**
+     * 미리 읽어 둔 본문을 다시 돌려주는 요청
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = StreamUtils.copyToByteArray(request.getInputStream());
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = (encoding == null) ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.filter;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.User;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.ratelimit.RateLimitExceededException;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.ratelimit.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쓰기 요청을 사용자별 토큰 버킷으로 제한합니다<br/>
+ * 컨트롤러와 저장소에 닿기 전에 거절하며, 429 응답은 {@link HandlerExceptionResolver} 를 통해
+ * {@link kr.hs.dgsw.cns.schoolmealbacksetup.global.exception.ExceptionAdvice} 에서 만들어집니다
+ * @implNote 사용자 id 로 버킷을 나누므로 {@link JwtTokenFilter} 뒤에 등록되어야 합니다
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long waitNanos = rateLimiter.acquire(request.getMethod(), request.getServletPath(), client(request));
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            handlerExceptionResolver.resolveException(request, response, null, new RateLimitExceededException(retryAfterSeconds));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private String client(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User) {
+            return "user:" + ((User) authentication.getPrincipal()).getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
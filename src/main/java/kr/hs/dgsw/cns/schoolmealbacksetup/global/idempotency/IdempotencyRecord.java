@@ -0,0 +1,40 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor @NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "idempotency_record", indexes = @Index(name = "idx_idempotency_record_expires_at", columnList = "expires_at"))
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "idempotency_key", length = 255)
+    private String key;
+
+    // 0 이면 아직 처리 중인 요청입니다
+    private int status;
+
+    // 요청 본문의 SHA-256 (hex)
+    @Column(length = 64)
+    private String fingerprint;
+
+    private String contentType;
+
+    @Lob
+    private byte[] body;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public boolean isExpired() {
+        return LocalDateTime.now().isAfter(expiresAt);
+    }
+}
@@ -0,0 +1,34 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO idempotency_record (idempotency_key, status, fingerprint, expires_at) " +
+            "VALUES (:key, 0, :fingerprint, :expiresAt)", nativeQuery = true)
+    int insertIgnore(String key, String fingerprint, LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("UPDATE IdempotencyRecord record SET record.status=:status, record.contentType=:contentType, record.body=:body " +
+            "WHERE record.key=:key")
+    int complete(String key, int status, String contentType, byte[] body);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord record WHERE record.key=:key")
+    int deleteByKey(String key);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord record WHERE record.key=:key AND record.expiresAt<:now")
+    int deleteExpired(String key, LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord record WHERE record.expiresAt<:now")
+    int deleteAllExpired(LocalDateTime now);
+}
@@ -0,0 +1,36 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.idempotency;
+
+import java.util.Optional;
+
+/**
+ * <h1>멱등 키 저장소</h1>
+ * {@code Idempotency-Key} 헤더별로 최초 요청의 성공 응답을 보관합니다
+ * @see InMemoryIdempotencyStore
+ * @see JpaIdempotencyStore
+ */
+public interface IdempotencyStore {
+
+    /**
+     * @return 처리가 끝난 키라면 저장된 응답, 처리 중이거나 없는 키라면 empty
+     */
+    Optional<StoredResponse> find(String key);
+
+    /**
+     * @return 처리 중이거나 처리가 끝난 키라면 선점할 때 함께 저장한 요청 본문 해시, 없는 키라면 empty
+     */
+    Optional<String> findFingerprint(String key);
+
+    /**
+     * 키를 처리 중 상태로 선점합니다
+     * @param fingerprint 요청 본문 해시. 같은 키로 다른 본문이 오면 재사용하지 않기 위해 함께 저장합니다
+     * @return 선점에 성공하면 true, 이미 처리 중이거나 처리된 키라면 false
+     */
+    boolean reserve(String key, String fingerprint);
+
+    void complete(String key, StoredResponse response);
+
+    /**
+     * 실패한 요청의 선점을 풀어 재시도할 수 있게 합니다
+     */
+    void release(String key);
+}
@@ -0,0 +1,116 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.idempotency;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.config.IdempotencyConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 최대 {@code idempotency.max-entries}개까지 보관하는 메모리 저장소 (기본값)<br/>
+ * 가득 차면 가장 오래된 키부터 버리며, {@code idempotency.ttl}이 지난 키는 없는 것으로 취급합니다<br/>
+ * 처리 중인 키는 버리지 않으므로 동시에 처리 중인 요청이 많으면 잠시 최대 개수를 넘을 수 있습니다
+ */
+@Component
+@ConditionalOnProperty(prefix = "idempotency", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    // 선점한 순서대로 유지합니다
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    public InMemoryIdempotencyStore(IdempotencyConfiguration configuration) {
+        this.ttlMillis = configuration.getTtl().toMillis();
+        this.maxEntries = configuration.getMaxEntries();
+    }
+
+    @Override
+    public Optional<StoredResponse> find(String key) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null || entry.isExpired()) return Optional.empty();
+            return Optional.ofNullable(entry.response);
+        }
+    }
+
+    @Override
+    public Optional<String> findFingerprint(String key) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null || entry.isExpired()) return Optional.empty();
+            return Optional.ofNullable(entry.fingerprint);
+        }
+    }
+
+    @Override
+    public boolean reserve(String key, String fingerprint) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && !entry.isExpired()) return false;
+            // 만료된 키를 다시 선점하면 맨 뒤로 옮깁니다
+            entries.remove(key);
+            entries.put(key, new Entry(fingerprint, null, expiresAt()));
+            evictOverflow();
+            return true;
+        }
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response) {
+        synchronized (entries) {
+            Entry reserved = entries.get(key);
+            String fingerprint = (reserved == null) ? null : reserved.fingerprint;
+            entries.put(key, new Entry(fingerprint, response, expiresAt()));
+            evictOverflow();
+        }
+    }
+
+    @Override
+    public void release(String key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void purgeExpired() {
+        synchronized (entries) {
+            entries.values().removeIf(Entry::isExpired);
+        }
+    }
+
+    // 오래된 순서로 처리가 끝났거나 만료된 키만 버립니다. 처리 중인 키를 버리면 같은 요청이 중복 실행됩니다
+    private void evictOverflow() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.response != null || entry.isExpired()) iterator.remove();
+        }
+    }
+
+    private long expiresAt() {
+        return System.currentTimeMillis() + ttlMillis;
+    }
+
+    private static class Entry {
+        private final String fingerprint;
+        // null 이면 아직 처리 중인 요청입니다
+        private final StoredResponse response;
+        private final long expiresAt;
+
+        private Entry(String fingerprint, StoredResponse response, long expiresAt) {
+            this.fingerprint = fingerprint;
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.idempotency;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.config.IdempotencyConfiguration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * {@code idempotency_record} 테이블에 보관하는 저장소<br/>
+ * 서버가 여러 대이거나 재시작 후에도 재전송을 막아야 할 때 {@code idempotency.store=jpa}로 사용합니다
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "idempotency", name = "store", havingValue = "jpa")
+public class JpaIdempotencyStore implements IdempotencyStore {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final IdempotencyConfiguration configuration;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<StoredResponse> find(String key) {
+        return idempotencyRecordRepository.findById(key)
+                .filter(record -> record.getStatus() != 0 && !record.isExpired())
+                .map(record -> new StoredResponse(record.getStatus(), record.getContentType(), record.getBody()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findFingerprint(String key) {
+        return idempotencyRecordRepository.findById(key)
+                .filter(record -> !record.isExpired())
+                .map(IdempotencyRecord::getFingerprint);
+    }
+
+    @Override
+    @Transactional
+    public boolean reserve(String key, String fingerprint) {
+        LocalDateTime now = LocalDateTime.now();
+        idempotencyRecordRepository.deleteExpired(key, now);
+        // 기본키 충돌 시 0 이 반환되므로 동시에 들어온 요청 중 하나만 선점합니다
+        return idempotencyRecordRepository.insertIgnore(key, fingerprint, now.plus(configuration.getTtl())) == 1;
+    }
+
+    @Override
+    @Transactional
+    public void complete(String key, StoredResponse response) {
+        idempotencyRecordRepository.complete(key, response.getStatus(), response.getContentType(), response.getBody());
+    }
+
+    @Override
+    @Transactional
+    public void release(String key) {
+        idempotencyRecordRepository.deleteByKey(key);
+    }
+
+    @Scheduled(fixedDelay = 3600000)
+    @Transactional
+    public void purgeExpired() {
+        idempotencyRecordRepository.deleteAllExpired(LocalDateTime.now());
+    }
+}
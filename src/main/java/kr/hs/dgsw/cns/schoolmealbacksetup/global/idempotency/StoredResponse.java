@@ -0,0 +1,15 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 멱등 키로 재전송된 요청에 그대로 돌려줄 최초 응답
+ */
+@Getter
+@AllArgsConstructor
+public class StoredResponse {
+    private final int status;
+    private final String contentType;
+    private final byte[] body;
+}
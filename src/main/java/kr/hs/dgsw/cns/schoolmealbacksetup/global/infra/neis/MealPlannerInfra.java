@@ -14,8 +14,8 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.URL;
+import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
-import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -33,11 +33,18 @@ public class MealPlannerInfra {
     }
 
     private static final String BASE_URL = "https://open.neis.go.kr/hub/mealServiceDietInfo?type=json&ATPT_OFCDC_SC_CODE=D10&SD_SCHUL_CODE=7240454&MLSV_YMD=%s";
+    // 응답이 없는 API 가 요청 스레드를 붙잡지 않도록 연결과 읽기에 시간 제한을 둡니다
+    private static final int CONNECT_TIMEOUT_MILLIS = 3000;
+    private static final int READ_TIMEOUT_MILLIS = 5000;
+    // 급식이 없는 날의 응답 코드 (해당하는 데이터가 없습니다)
+    private static final String NO_DATA_CODE = "INFO-200";
 
     private JSONObject parseFrom(String url) throws IOException {
-        URL queryUrl = new URL(url);
+        URLConnection connection = new URL(url).openConnection();
+        connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        connection.setReadTimeout(READ_TIMEOUT_MILLIS);
 
-        try(BufferedReader reader = new BufferedReader(new InputStreamReader(queryUrl.openStream(), StandardCharsets.UTF_8)) ) {
+        try(BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8)) ) {
             String jsonResult = reader.lines().collect(Collectors.joining("\n"));
 
             JSONParser parser = new JSONParser();
@@ -47,14 +54,17 @@ public class MealPlannerInfra {
         }
     }
 
-    private List<MealItem> toResultList(JSONObject json) {
+    private List<MealItem> toResultList(JSONObject json, String date) {
+        // 급식이 없는 날은 실패가 아니라 빈 식단표로 캐시합니다
+        JSONObject result = (JSONObject) json.get("RESULT");
+        if (result != null && NO_DATA_CODE.equals(result.get("CODE"))) return Collections.emptyList();
+
         JSONArray resultArray = (JSONArray) json.get("mealServiceDietInfo");
 
         JSONObject menuArrayOuter = ((JSONObject)resultArray.get(1));
         JSONArray menuArray = (JSONArray)menuArrayOuter.get("row");
 
         List<MealItem> list = new ArrayList<>();
-        String date = new SimpleDateFormat("yyyyMMdd").format(new Date());
         for(int i = 0; i < menuArray.size(); i++) {
             JSONObject menu = (JSONObject) menuArray.get(i);
 
@@ -69,12 +79,13 @@ public class MealPlannerInfra {
     }
 
 
-    @Cacheable(value = "MealPlannerInfra", key = "#year + #month + #day")
+    // 숫자끼리 더하면 (2022, 6, 16) 과 (2022, 7, 15) 가 같은 키가 되므로 날짜 문자열을 키로 사용합니다
+    @Cacheable(value = "MealPlannerInfra", key = "T(java.lang.String).format('%04d%02d%02d', #year, #month, #day)")
     public List<MealItem> getMealsOfDate(int year, int month, int day) {
-        String timeString = String.format("%02d%02d%02d", year, month, day);
+        String timeString = String.format("%04d%02d%02d", year, month, day);
         try {
             JSONObject json = parseFrom(String.format(BASE_URL, timeString));
-            return toResultList(json);
+            return toResultList(json, timeString);
         } catch (Exception ex) {
             throw new MealParseFailedException();
         }
@@ -0,0 +1,15 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.ratelimit;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.exception.BusinessException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class RateLimitExceededException extends BusinessException {
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. " + retryAfterSeconds + "초 후에 다시 시도해주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,69 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.ratelimit;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.config.RateLimitConfiguration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h1>사용자별 요청 수 제한</h1>
+ * (사용자, 규칙) 마다 {@link TokenBucket} 을 하나씩 두고, 오래 쓰이지 않은 버킷은 주기적으로 제거합니다<br/>
+ * 버킷 수가 {@code rate-limit.max-buckets} 에 도달하면 새 사용자는 제한하지 않고 통과시킵니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final RateLimitConfiguration rateLimitConfiguration;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param client 사용자 id 또는 IP 주소
+     * @return 허용된 경우 0, 거절된 경우 다시 시도할 수 있을 때까지 남은 나노초
+     */
+    public long acquire(String method, String path, String client) {
+        if (!rateLimitConfiguration.isEnabled()) return 0;
+
+        List<RateLimitConfiguration.Rule> rules = rateLimitConfiguration.getRules();
+        for (int i = 0; i < rules.size(); i++) {
+            RateLimitConfiguration.Rule rule = rules.get(i);
+            if (!matches(rule, method, path)) continue;
+
+            long now = System.nanoTime();
+            String key = client + "#" + i;
+            TokenBucket bucket = buckets.get(key);
+            if (bucket == null) {
+                if (buckets.size() >= rateLimitConfiguration.getMaxBuckets()) {
+                    log.warn("rate limit bucket capacity reached ({}), letting '{}' through", buckets.size(), key);
+                    return 0;
+                }
+                bucket = buckets.computeIfAbsent(key,
+                        k -> new TokenBucket(rule.getCapacity(), rule.getPeriod().toNanos(), now));
+            }
+            return bucket.tryConsume(now);
+        }
+        return 0;
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        long idleNanos = rateLimitConfiguration.getIdleTimeout().toNanos();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+    }
+
+    private boolean matches(RateLimitConfiguration.Rule rule, String method, String path) {
+        boolean methodMatches = "*".equals(rule.getMethod()) || rule.getMethod().equalsIgnoreCase(method);
+        return methodMatches && PATH_MATCHER.match(rule.getPattern(), path);
+    }
+}
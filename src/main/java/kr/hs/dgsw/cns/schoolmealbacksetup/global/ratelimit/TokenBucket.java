@@ -0,0 +1,59 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.ratelimit;
+
+import lombok.AllArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <h1>토큰 버킷</h1>
+ * 남은 토큰과 마지막 갱신 시각을 불변 객체 하나로 묶어 CAS 로 교체하므로 락 없이 동작합니다<br/>
+ * 토큰은 소비할 때 경과 시간만큼 한꺼번에 채우므로 별도의 충전 스레드가 필요 없습니다
+ */
+public class TokenBucket {
+
+    private final int capacity;
+    private final double nanosPerToken;
+    private final AtomicReference<State> state;
+
+    public TokenBucket(int capacity, long periodNanos, long now) {
+        this.capacity = capacity;
+        this.nanosPerToken = (double) periodNanos / capacity;
+        this.state = new AtomicReference<>(new State(capacity, now));
+    }
+
+    /**
+     * 토큰 하나를 소비합니다
+     * @return 허용된 경우 0, 거절된 경우 다음 토큰이 생길 때까지 남은 나노초
+     */
+    public long tryConsume(long now) {
+        while (true) {
+            State current = state.get();
+            double tokens = refill(current, now);
+            if (tokens < 1) {
+                return (long) Math.ceil((1 - tokens) * nanosPerToken);
+            }
+            if (state.compareAndSet(current, new State(tokens - 1, Math.max(now, current.updatedAt)))) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 가득 찬 채로 {@code idleNanos} 이상 사용되지 않은 버킷은 새로 만든 버킷과 같으므로 버려도 됩니다
+     */
+    public boolean isIdle(long now, long idleNanos) {
+        State current = state.get();
+        return now - current.updatedAt >= idleNanos && refill(current, now) >= capacity;
+    }
+
+    private double refill(State current, long now) {
+        long elapsed = Math.max(0, now - current.updatedAt);
+        return Math.min(capacity, current.tokens + elapsed / nanosPerToken);
+    }
+
+    @AllArgsConstructor
+    private static class State {
+        private final double tokens;
+        private final long updatedAt;
+    }
+}
@@ -1,26 +1,37 @@
 package kr.hs.dgsw.cns.schoolmealbacksetup.global.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.filter.IdempotencyFilter;
 import kr.hs.dgsw.cns.schoolmealbacksetup.global.filter.JwtTokenFilter;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.filter.RateLimitFilter;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.idempotency.IdempotencyStore;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.ratelimit.RateLimiter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
 
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
-public class SecurityConfiguration extends WebSecurityConfigurerAdapter {
+public class SecurityConfiguration {
 
     private final JwtProvider jwtProvider;
     private final ObjectMapper objectMapper;
+    private final IdempotencyStore idempotencyStore;
+    private final RateLimiter rateLimiter;
+
+    @Qualifier("handlerExceptionResolver")
+    private final HandlerExceptionResolver handlerExceptionResolver;
 
     // 로그인 로직, 회원가입 로직 등에서 활용되는 비밀번호 인코더
     @Bean
@@ -28,9 +39,10 @@ public class SecurityConfiguration extends WebSecurityConfigurerAdapter {
         return new BCryptPasswordEncoder();
     }
 
-    @Override
-    protected void configure(HttpSecurity http) throws Exception {
-        http
+    // WebSecurityConfigurerAdapter 는 Spring Security 5.7 부터 deprecated 이므로 필터 체인을 빈으로 등록합니다
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        return http
                 // CSRF 방지토큰 활성화 / 로그인 폼 및 CORS 비활성화
                 .csrf().disable()
                 .formLogin().disable()
@@ -49,6 +61,9 @@ public class SecurityConfiguration extends WebSecurityConfigurerAdapter {
                 .antMatchers("/users/signup").permitAll()
                 .and()
                 .authorizeRequests()
+                .antMatchers(HttpMethod.GET, "/reviews/export", "/reviews/reports/**", "/menu/votes/export").hasRole("ADMIN")
+                .and()
+                .authorizeRequests()
                 .antMatchers(HttpMethod.GET, "/menu", "/menu/**/").permitAll()
                 .and()
                 .authorizeRequests()
@@ -61,8 +76,16 @@ public class SecurityConfiguration extends WebSecurityConfigurerAdapter {
                 .antMatchers("/menu/planner").permitAll()
                 .and()
                 .authorizeRequests()
+                .antMatchers(HttpMethod.GET, "/menu/stream", "/menu/leaderboard", "/menu/search", "/menu/similar", "/menu/facets",
+                        "/menu/*/votes/timeline").permitAll()
+                .and()
+                .authorizeRequests()
                 .anyRequest().authenticated()
                 .and()
-                .addFilterBefore(new JwtTokenFilter(jwtProvider), UsernamePasswordAuthenticationFilter.class);
+                // 같은 위치에 등록된 필터는 등록 순서대로 실행되므로, 인증 -> 요청 수 제한 -> 멱등 키 순서로 실행됩니다
+                .addFilterBefore(new JwtTokenFilter(jwtProvider), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new RateLimitFilter(rateLimiter, handlerExceptionResolver), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new IdempotencyFilter(idempotencyStore, objectMapper), UsernamePasswordAuthenticationFilter.class)
+                .build();
     }
 }
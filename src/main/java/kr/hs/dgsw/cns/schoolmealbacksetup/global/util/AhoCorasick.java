@@ -0,0 +1,141 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.util;
+
+import java.util.*;
+
+/**
+ * <h1>Aho-Corasick 다중 문자열 검색</h1>
+ * 단어 목록으로 한 번 만든 오토마톤으로 본문을 한 번만 훑어 모든 단어의 등장 위치를 찾습니다<br/>
+ * 단어 수와 상관없이 본문 길이에 비례하는 시간이 걸리며, 만든 뒤에는 바뀌지 않으므로 여러 스레드에서 함께 사용할 수 있습니다<br/>
+ * 글자/숫자가 아닌 문자는 건너뛰고 대소문자를 구분하지 않으므로 "시 발", "ㅅ.ㅂ" 처럼 사이에 공백/기호를 넣어도 찾습니다
+ */
+public final class AhoCorasick {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final int[] NO_TARGETS = new int[0];
+
+    // 노드마다 정렬된 (다음 글자 -> 다음 노드). 글자 수가 많은 한글이라 배열 대신 이진 탐색을 사용합니다
+    private final char[][] keys;
+    private final int[][] targets;
+    private final int[] fail;
+    // 이 노드에서 끝나는 가장 긴 단어의 길이 (실패 링크를 따라 도달하는 단어 포함, 없으면 0)
+    private final int[] matchLength;
+    private final int size;
+
+    private AhoCorasick(char[][] keys, int[][] targets, int[] fail, int[] matchLength, int size) {
+        this.keys = keys;
+        this.targets = targets;
+        this.fail = fail;
+        this.matchLength = matchLength;
+        this.size = size;
+    }
+
+    public static AhoCorasick build(Collection<String> words) {
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> lengths = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        lengths.add(0);
+
+        int count = 0;
+        for (String word : words) {
+            String compact = NGramTokenizer.compact(word);
+            if (compact.isEmpty()) continue;
+
+            int node = 0;
+            for (int i = 0; i < compact.length(); i++) {
+                Integer next = trie.get(node).get(compact.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(node).put(compact.charAt(i), next);
+                    trie.add(new TreeMap<>());
+                    lengths.add(0);
+                }
+                node = next;
+            }
+            lengths.set(node, compact.length());
+            count++;
+        }
+
+        int nodes = trie.size();
+        char[][] keys = new char[nodes][];
+        int[][] targets = new int[nodes][];
+        for (int node = 0; node < nodes; node++) {
+            TreeMap<Character, Integer> children = trie.get(node);
+            keys[node] = children.isEmpty() ? NO_KEYS : new char[children.size()];
+            targets[node] = children.isEmpty() ? NO_TARGETS : new int[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> child : children.entrySet()) {
+                keys[node][i] = child.getKey();
+                targets[node][i++] = child.getValue();
+            }
+        }
+
+        // 너비 우선으로 실패 링크를 만들면 부모 쪽 링크가 항상 먼저 정해집니다
+        int[] fail = new int[nodes];
+        int[] matchLength = new int[nodes];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[0]) queue.add(child);
+        for (int node = 0; node < nodes; node++) matchLength[node] = lengths.get(node);
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            matchLength[node] = Math.max(matchLength[node], matchLength[fail[node]]);
+            for (int i = 0; i < keys[node].length; i++) {
+                int child = targets[node][i];
+                int state = fail[node];
+                int next;
+                while ((next = step(keys, targets, state, keys[node][i])) < 0 && state != 0) state = fail[state];
+                fail[child] = (next < 0 || next == child) ? 0 : next;
+                queue.add(child);
+            }
+        }
+        return new AhoCorasick(keys, targets, fail, matchLength, count);
+    }
+
+    /**
+     * @return 등록된 단어 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 단어가 등장한 구간을 찾을 때마다 {@code (시작 index, 끝 index(포함하지 않음))}를 넘깁니다<br/>
+     * index 는 {@code text} 기준이며, 구간 안에는 건너뛴 공백/기호가 포함될 수 있습니다
+     */
+    public void scan(String text, MatchListener listener) {
+        if (text == null || size == 0) return;
+
+        // 최근에 읽은 글자/숫자의 원래 위치 (가장 긴 단어 길이만큼만 필요하지만 본문 길이로 충분히 작습니다)
+        int[] positions = new int[text.length()];
+        int letters = 0;
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isLetterOrDigit(c)) continue;
+            c = Character.toLowerCase(c);
+            positions[letters++] = i;
+
+            int next;
+            while ((next = step(keys, targets, state, c)) < 0 && state != 0) state = fail[state];
+            state = Math.max(next, 0);
+
+            int length = matchLength[state];
+            if (length > 0) listener.onMatch(positions[letters - length], i + 1);
+        }
+    }
+
+    public boolean containsAny(String text) {
+        boolean[] found = { false };
+        scan(text, (start, end) -> found[0] = true);
+        return found[0];
+    }
+
+    private static int step(char[][] keys, int[][] targets, int node, char c) {
+        int index = Arrays.binarySearch(keys[node], c);
+        return (index < 0) ? -1 : targets[node][index];
+    }
+
+    @FunctionalInterface
+    public interface MatchListener {
+        void onMatch(int start, int end);
+    }
+}
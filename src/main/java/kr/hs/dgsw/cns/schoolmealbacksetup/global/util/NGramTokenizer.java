@@ -0,0 +1,69 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * <h1>문자 n-gram 토크나이저</h1>
+ * 한글은 띄어쓰기가 일정하지 않고 조사가 붙기 때문에 형태소 분석 대신 음절 단위 n-gram 을 사용합니다<br/>
+ * n 의 범위는 호출하는 쪽이 정합니다 (검색 색인은 1~3-gram, 유사 메뉴는 2-gram, 리뷰 표현은 2~3-gram)<br/>
+ * 글자/숫자가 아닌 문자는 구분자로 취급하며, {@code minGram}보다 짧은 단어는 그대로 하나의 토큰이 됩니다
+ */
+public final class NGramTokenizer {
+
+    private NGramTokenizer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) return "";
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 글자/숫자만 남겨 이어 붙입니다 (띄어쓰기 차이를 무시할 때 사용)
+     */
+    public static String compact(String text) {
+        String normalized = normalize(text);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 중복을 포함한 n-gram 목록을 반환합니다 (빈도 계산용)
+     */
+    public static List<String> tokenize(String text, int minGram, int maxGram) {
+        String normalized = normalize(text);
+        List<String> grams = new ArrayList<>();
+
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean letter = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                appendGrams(normalized, start, i, minGram, maxGram, grams);
+                start = -1;
+            }
+        }
+        return grams;
+    }
+
+    private static void appendGrams(String text, int from, int to, int minGram, int maxGram, List<String> grams) {
+        int length = to - from;
+        if (length < minGram) {
+            grams.add(text.substring(from, to));
+            return;
+        }
+        for (int n = minGram; n <= maxGram && n <= length; n++) {
+            for (int i = from; i + n <= to; i++) {
+                grams.add(text.substring(i, i + n));
+            }
+        }
+    }
+}
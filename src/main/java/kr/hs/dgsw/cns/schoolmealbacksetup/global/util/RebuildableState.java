@@ -0,0 +1,82 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * <h1>교체 방식으로 재구성하는 메모리 상태</h1>
+ * 재구성은 새 상태를 따로 만든 뒤 한 번에 교체하므로, 그동안 조회는 이전 상태를 그대로 봅니다<br/>
+ * 재구성 중에 들어온 갱신은 이전 상태에 적용하면서 함께 기록해 두고, 교체 직전에 새 상태에도 다시 적용합니다<br/>
+ * 재구성이 읽기 시작한 뒤 커밋된 변경이 이미 읽기 결과에 들어 있으면 두 번 적용되므로,
+ * 누적 값(투표 수, 리뷰 수)은 재구성과 겹친 짧은 구간에서 실제보다 조금 클 수 있습니다
+ * @param <T> 상태 타입. 갱신은 여러 스레드에서 동시에 적용되므로 {@code T}가 스스로 동시성을 보장해야 합니다
+ */
+public class RebuildableState<T> {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile T current;
+    // lock 안에서만 바뀝니다. 재구성 중이 아니면 null
+    private Queue<Function<T, ?>> pending;
+
+    public RebuildableState(T initial) {
+        this.current = initial;
+    }
+
+    public T get() {
+        return current;
+    }
+
+    public void update(Consumer<T> change) {
+        apply(state -> {
+            change.accept(state);
+            return null;
+        });
+    }
+
+    /**
+     * 현재 상태에 갱신을 적용하고 그 결과를 반환합니다<br/>
+     * 재구성 중이면 새 상태에도 다시 적용되며, 그때의 결과는 버립니다
+     */
+    public <R> R apply(Function<T, R> change) {
+        lock.readLock().lock();
+        try {
+            if (pending != null) pending.add(change);
+            return change.apply(current);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@code loader}로 새 상태를 만들어 교체합니다. 실패하면 이전 상태를 유지합니다
+     */
+    public synchronized void rebuild(Supplier<T> loader) {
+        lock.writeLock().lock();
+        try {
+            pending = new ConcurrentLinkedQueue<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        T fresh = null;
+        try {
+            fresh = loader.get();
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (fresh != null) {
+                    for (Function<T, ?> change : pending) change.apply(fresh);
+                    current = fresh;
+                }
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+}
@@ -14,11 +14,12 @@ import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuRequestRepo
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service.MenuService;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
-import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.AuthId;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.User;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.repository.UserRepository;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.type.UserRole;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.idempotency.IdempotencyStore;
 import kr.hs.dgsw.cns.schoolmealbacksetup.global.infra.neis.MealPlannerInfra;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.ratelimit.RateLimiter;
 import kr.hs.dgsw.cns.schoolmealbacksetup.global.security.JwtConfiguration;
 import kr.hs.dgsw.cns.schoolmealbacksetup.global.security.JwtProvider;
 import org.junit.jupiter.api.DisplayName;
@@ -76,6 +77,12 @@ class MenuControllerTest {
     @SpyBean
     private AuthDetailsService authDetailsService;
 
+    @MockBean
+    private IdempotencyStore idempotencyStore;
+
+    @MockBean
+    private RateLimiter rateLimiter;
+
     @Mock
     private MenuRequestRepository menuRequestRepository;
     
@@ -128,7 +135,7 @@ class MenuControllerTest {
     }
 
     private Vote vote(MenuRequest menuRequest, User user) {
-        return new Vote(new VoteId(new AuthId(user)), menuRequest);
+        return new Vote(new VoteId(user.getId(), menuRequest.getId()), user, menuRequest);
     }
 
     @DisplayName("메뉴 추가 성공")
@@ -0,0 +1,103 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.export;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExportWriterTest {
+
+    private static final String[] COLUMNS = { "id", "date", "message", "flagged" };
+
+    @DisplayName("NDJSON 은 한 줄에 한 행씩 JSON 객체로 씀")
+    @Test
+    void writeNdjson() throws IOException {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        try (ExportWriter writer = new ExportWriter(ExportFormat.NDJSON, out, COLUMNS)) {
+            writer.row(1L, LocalDate.of(2022, 3, 2), "맛있어요 \"최고\"", false);
+            writer.row(2L, LocalDate.of(2022, 3, 3), null, true);
+        }
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"id\":1,\"date\":\"2022-03-02\",\"message\":\"맛있어요 \\\"최고\\\"\",\"flagged\":false}\n"
+                        + "{\"id\":2,\"date\":\"2022-03-03\",\"message\":null,\"flagged\":true}\n");
+    }
+
+    @DisplayName("CSV 는 BOM 과 헤더를 먼저 쓰고, 쉼표/따옴표/줄바꿈이 있는 값만 따옴표로 감쌈")
+    @Test
+    void writeCsv() throws IOException {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        try (ExportWriter writer = new ExportWriter(ExportFormat.CSV, out, COLUMNS)) {
+            writer.row(1L, LocalDate.of(2022, 3, 2), "맵고, \"짜요\"\n다음엔 덜", true);
+            writer.row(2L, LocalDate.of(2022, 3, 3), null, false);
+        }
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("\uFEFF"
+                + "id,date,message,flagged\r\n"
+                + "1,2022-03-02,\"맵고, \"\"짜요\"\"\n다음엔 덜\",true\r\n"
+                + "2,2022-03-03,,false\r\n");
+    }
+
+    @DisplayName("CSV 에서 수식으로 시작하는 글은 작은따옴표를 붙여 감싸고, 음수 같은 숫자는 그대로 씀")
+    @Test
+    void neutralizeCsvFormula() throws IOException {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        try (ExportWriter writer = new ExportWriter(ExportFormat.CSV, out, COLUMNS)) {
+            writer.row(-1L, LocalDate.of(2022, 3, 2), "=HYPERLINK(\"http://example.com\",\"클릭\")", false);
+            writer.row(2L, LocalDate.of(2022, 3, 3), "+1", false);
+            writer.row(3L, LocalDate.of(2022, 3, 4), "-맛없음", false);
+            writer.row(4L, LocalDate.of(2022, 3, 5), "@SUM(1+1)", false);
+            writer.row(5L, LocalDate.of(2022, 3, 6), "맛있어요 =)", false);
+        }
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("\uFEFF"
+                + "id,date,message,flagged\r\n"
+                + "-1,2022-03-02,\"'=HYPERLINK(\"\"http://example.com\"\",\"\"클릭\"\")\",false\r\n"
+                + "2,2022-03-03,\"'+1\",false\r\n"
+                + "3,2022-03-04,\"'-맛없음\",false\r\n"
+                + "4,2022-03-05,\"'@SUM(1+1)\",false\r\n"
+                + "5,2022-03-06,맛있어요 =),false\r\n");
+    }
+
+    @DisplayName("행이 없으면 NDJSON 은 빈 응답, CSV 는 헤더만 씀")
+    @Test
+    void writeNothing() throws IOException {
+        // given
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+
+        // when
+        new ExportWriter(ExportFormat.NDJSON, ndjson, COLUMNS).close();
+        new ExportWriter(ExportFormat.CSV, csv, COLUMNS).close();
+
+        // then
+        assertThat(ndjson.size()).isZero();
+        assertThat(csv.toString(StandardCharsets.UTF_8)).isEqualTo("\uFEFFid,date,message,flagged\r\n");
+    }
+
+    @DisplayName("지원하지 않는 형식은 예외")
+    @Test
+    void unsupportedFormat() {
+        assertThat(ExportFormat.of("CSV")).isEqualTo(ExportFormat.CSV);
+        assertThatThrownBy(() -> ExportFormat.of("xlsx"))
+                .isInstanceOf(ExportFormat.UnsupportedFormat.class);
+    }
+}
@@ -0,0 +1,27 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.export;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamingExporterTest {
+
+    @DisplayName("MySQL url 에 useCursorFetch=true 가 없으면 시작할 때 실패")
+    @Test
+    void requireCursorFetchOnMysql() {
+        assertThatThrownBy(() -> StreamingExporter.verifyCursorFetch("jdbc:mysql://localhost:3306/schoolmeal?rewriteBatchedStatements=true"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("useCursorFetch=true");
+        assertThatCode(() -> StreamingExporter.verifyCursorFetch("jdbc:mysql://localhost:3306/schoolmeal?useCursorFetch=true&rewriteBatchedStatements=true"))
+                .doesNotThrowAnyException();
+    }
+
+    @DisplayName("MySQL 이 아니거나 url 이 없으면 확인하지 않음")
+    @Test
+    void skipOtherDatabases() {
+        assertThatCode(() -> StreamingExporter.verifyCursorFetch("jdbc:h2:mem:testdb")).doesNotThrowAnyException();
+        assertThatCode(() -> StreamingExporter.verifyCursorFetch("")).doesNotThrowAnyException();
+    }
+}
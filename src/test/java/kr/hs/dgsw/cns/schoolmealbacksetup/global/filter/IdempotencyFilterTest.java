@@ -0,0 +1,133 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.config.IdempotencyConfiguration;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.idempotency.InMemoryIdempotencyStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"menu_name\":\"짜장면\"}";
+
+    private IdempotencyFilter filter;
+    private final List<String> handledBodies = new ArrayList<>();
+    private int handlerStatus = HttpStatus.CREATED.value();
+
+    @BeforeEach
+    void setUp() {
+        filter = new IdempotencyFilter(new InMemoryIdempotencyStore(new IdempotencyConfiguration()), new ObjectMapper());
+    }
+
+    @DisplayName("같은 키와 본문으로 재전송하면 컨트롤러를 거치지 않고 저장된 응답을 반환")
+    @Test
+    void replaySameRequest() throws Exception {
+        // given
+        MockHttpServletResponse first = send("key-1", BODY, handler());
+
+        // when
+        MockHttpServletResponse second = send("key-1", BODY, handler());
+
+        // then
+        assertThat(handledBodies).containsExactly(BODY);
+        assertThat(second.getStatus()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo("{\"id\":1}");
+    }
+
+    @DisplayName("같은 키로 다른 본문을 보내면 422")
+    @Test
+    void rejectDifferentBody() throws Exception {
+        // given
+        send("key-1", BODY, handler());
+
+        // when
+        MockHttpServletResponse response = send("key-1", "{\"menu_name\":\"짬뽕\"}", handler());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY.value());
+        assertThat(handledBodies).containsExactly(BODY);
+    }
+
+    @DisplayName("처리 중인 키로 같은 요청이 오면 409, 다른 본문이면 422")
+    @Test
+    void rejectWhileInFlight() throws Exception {
+        // given
+        List<MockHttpServletResponse> nested = new ArrayList<>();
+        FilterChain slowHandler = (request, response) -> {
+            nested.add(send("key-1", BODY, handler()));
+            nested.add(send("key-1", "{\"menu_name\":\"짬뽕\"}", handler()));
+            handler().doFilter(request, response);
+        };
+
+        // when
+        send("key-1", BODY, slowHandler);
+
+        // then
+        assertThat(nested).extracting(MockHttpServletResponse::getStatus)
+                .containsExactly(HttpStatus.CONFLICT.value(), HttpStatus.UNPROCESSABLE_ENTITY.value());
+        assertThat(handledBodies).containsExactly(BODY);
+    }
+
+    @DisplayName("실패한 요청은 선점을 풀어 같은 키로 다시 처리")
+    @Test
+    void releaseOnFailure() throws Exception {
+        // given
+        handlerStatus = HttpStatus.BAD_REQUEST.value();
+        send("key-1", BODY, handler());
+
+        // when
+        handlerStatus = HttpStatus.CREATED.value();
+        MockHttpServletResponse response = send("key-1", BODY, handler());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(handledBodies).containsExactly(BODY, BODY);
+    }
+
+    @DisplayName("키가 없으면 매번 그대로 통과")
+    @Test
+    void skipWithoutKey() throws Exception {
+        // when
+        send(null, BODY, handler());
+        send(null, BODY, handler());
+
+        // then
+        assertThat(handledBodies).containsExactly(BODY, BODY);
+    }
+
+    // 컨트롤러 대신 본문을 읽어 기록하고 응답을 씁니다
+    private FilterChain handler() {
+        return (request, response) -> {
+            handledBodies.add(StreamUtils.copyToString(request.getInputStream(), StandardCharsets.UTF_8));
+            ((HttpServletResponse) response).setStatus(handlerStatus);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"id\":1}");
+        };
+    }
+
+    private MockHttpServletResponse send(String key, String body, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/menu");
+        request.setServletPath("/menu");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        if (key != null) request.addHeader(IdempotencyFilter.HEADER, key);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
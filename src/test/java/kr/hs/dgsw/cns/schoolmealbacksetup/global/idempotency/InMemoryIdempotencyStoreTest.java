@@ -0,0 +1,84 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.idempotency;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.config.IdempotencyConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryIdempotencyStoreTest {
+
+    private static final StoredResponse CREATED = new StoredResponse(201, "application/json", "{}".getBytes());
+
+    private InMemoryIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyConfiguration configuration = new IdempotencyConfiguration();
+        configuration.setMaxEntries(2);
+        store = new InMemoryIdempotencyStore(configuration);
+    }
+
+    @DisplayName("선점한 키는 처리 중이면 다시 선점할 수 없고, 완료되면 응답과 본문 해시를 반환")
+    @Test
+    void reserveAndComplete() {
+        assertThat(store.reserve("a", "hash-a")).isTrue();
+        assertThat(store.reserve("a", "hash-a")).isFalse();
+        assertThat(store.find("a")).isEmpty();
+        assertThat(store.findFingerprint("a")).contains("hash-a");
+
+        store.complete("a", CREATED);
+
+        assertThat(store.find("a")).contains(CREATED);
+        assertThat(store.findFingerprint("a")).contains("hash-a");
+        assertThat(store.reserve("a", "hash-a")).isFalse();
+    }
+
+    @DisplayName("가득 차면 처리 중인 키는 남기고 완료된 오래된 키부터 버림")
+    @Test
+    void keepInFlightOnOverflow() {
+        // given
+        store.reserve("in-flight", "hash-1");
+        store.reserve("done", "hash-2");
+        store.complete("done", CREATED);
+
+        // when
+        store.reserve("new", "hash-3");
+
+        // then
+        assertThat(store.findFingerprint("in-flight")).contains("hash-1");
+        assertThat(store.reserve("in-flight", "hash-1")).isFalse();
+        assertThat(store.find("done")).isEmpty();
+        assertThat(store.findFingerprint("new")).contains("hash-3");
+    }
+
+    @DisplayName("모두 처리 중이면 버리지 않고 잠시 최대 개수를 넘김")
+    @Test
+    void overflowWhenAllInFlight() {
+        store.reserve("a", "hash-a");
+        store.reserve("b", "hash-b");
+        store.reserve("c", "hash-c");
+
+        assertThat(store.reserve("a", "hash-a")).isFalse();
+        assertThat(store.reserve("b", "hash-b")).isFalse();
+        assertThat(store.reserve("c", "hash-c")).isFalse();
+    }
+
+    @DisplayName("선점을 풀거나 보관 기간이 지나면 다시 선점 가능")
+    @Test
+    void releaseAndExpire() {
+        store.reserve("a", "hash-a");
+        store.release("a");
+        assertThat(store.reserve("a", "hash-a")).isTrue();
+
+        IdempotencyConfiguration configuration = new IdempotencyConfiguration();
+        configuration.setTtl(Duration.ofMillis(-1));
+        InMemoryIdempotencyStore expiring = new InMemoryIdempotencyStore(configuration);
+        expiring.reserve("a", "hash-a");
+        assertThat(expiring.findFingerprint("a")).isEmpty();
+        assertThat(expiring.reserve("a", "hash-b")).isTrue();
+    }
+}
@@ -0,0 +1,70 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.idempotency;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.config.IdempotencyConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JpaIdempotencyStoreTest {
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private JpaIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new JpaIdempotencyStore(idempotencyRecordRepository, new IdempotencyConfiguration());
+    }
+
+    @DisplayName("만료된 키를 지운 뒤 본문 해시와 함께 INSERT IGNORE 로 선점")
+    @Test
+    void reserveWithFingerprint() {
+        // given
+        when(idempotencyRecordRepository.insertIgnore(eq("a"), eq("hash-a"), any(LocalDateTime.class)))
+                .thenReturn(1)
+                .thenReturn(0);
+
+        // when, then
+        assertThat(store.reserve("a", "hash-a")).isTrue();
+        assertThat(store.reserve("a", "hash-a")).isFalse();
+        verify(idempotencyRecordRepository, times(2)).deleteExpired(eq("a"), any(LocalDateTime.class));
+    }
+
+    @DisplayName("처리 중인 키는 응답 없이 본문 해시만, 만료된 키는 둘 다 반환하지 않음")
+    @Test
+    void findByStatus() {
+        // given
+        when(idempotencyRecordRepository.findById("in-flight"))
+                .thenReturn(Optional.of(record("in-flight", 0, LocalDateTime.now().plusHours(1))));
+        when(idempotencyRecordRepository.findById("expired"))
+                .thenReturn(Optional.of(record("expired", 201, LocalDateTime.now().minusSeconds(1))));
+
+        // when, then
+        assertThat(store.find("in-flight")).isEmpty();
+        assertThat(store.findFingerprint("in-flight")).contains("hash-in-flight");
+        assertThat(store.find("expired")).isEmpty();
+        assertThat(store.findFingerprint("expired")).isEmpty();
+    }
+
+    private static IdempotencyRecord record(String key, int status, LocalDateTime expiresAt) {
+        return IdempotencyRecord.builder()
+                .key(key)
+                .status(status)
+                .fingerprint("hash-" + key)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @DisplayName("용량만큼 허용한 뒤 거절하고, 다음 토큰까지 남은 시간을 반환")
+    @Test
+    void consumeUntilEmpty() {
+        // 10초에 5번 -> 2초마다 토큰 하나
+        TokenBucket bucket = new TokenBucket(5, 10 * SECOND, 0);
+
+        for (int i = 0; i < 5; i++) assertThat(bucket.tryConsume(0)).isZero();
+
+        assertThat(bucket.tryConsume(0)).isEqualTo(2 * SECOND);
+        assertThat(bucket.tryConsume(SECOND)).isEqualTo(SECOND);
+        assertThat(bucket.tryConsume(2 * SECOND)).isZero();
+    }
+
+    @DisplayName("가득 찬 채로 오래 쓰이지 않은 버킷만 idle")
+    @Test
+    void idle() {
+        TokenBucket bucket = new TokenBucket(5, 10 * SECOND, 0);
+        bucket.tryConsume(0);
+
+        assertThat(bucket.isIdle(SECOND, SECOND)).isFalse();
+        assertThat(bucket.isIdle(60 * SECOND, 30 * SECOND)).isTrue();
+    }
+}
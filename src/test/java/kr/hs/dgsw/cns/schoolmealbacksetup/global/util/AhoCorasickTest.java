@@ -0,0 +1,46 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AhoCorasickTest {
+
+    @DisplayName("겹치거나 다른 단어 안에 들어있는 단어도 한 번에 모두 찾음")
+    @Test
+    void findOverlappingWords() {
+        AhoCorasick automaton = AhoCorasick.build(List.of("he", "she", "his", "hers"));
+
+        assertThat(matches(automaton, "ushers")).containsExactly("she", "hers");
+        assertThat(automaton.size()).isEqualTo(4);
+    }
+
+    @DisplayName("공백/기호와 대소문자를 무시하고, 원래 문장의 구간을 반환")
+    @Test
+    void ignoreSeparatorsAndCase() {
+        AhoCorasick automaton = AhoCorasick.build(List.of("시발", "SPAM"));
+
+        assertThat(matches(automaton, "아 시 .발 진짜")).containsExactly("시 .발");
+        assertThat(matches(automaton, "this is Spam")).containsExactly("Spam");
+        assertThat(automaton.containsAny("오향장육 맛있어요")).isFalse();
+    }
+
+    @DisplayName("단어가 없으면 아무것도 찾지 않음")
+    @Test
+    void emptyDictionary() {
+        AhoCorasick automaton = AhoCorasick.build(List.of("", " "));
+
+        assertThat(automaton.size()).isZero();
+        assertThat(automaton.containsAny("아무 문장")).isFalse();
+    }
+
+    private static List<String> matches(AhoCorasick automaton, String text) {
+        List<String> matches = new ArrayList<>();
+        automaton.scan(text, (start, end) -> matches.add(text.substring(start, end)));
+        return matches;
+    }
+}
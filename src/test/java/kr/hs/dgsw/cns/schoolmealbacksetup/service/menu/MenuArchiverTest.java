@@ -0,0 +1,126 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.service.menu;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuArchivedEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuIdState;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuRequestArchiveRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuRequestRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service.MenuArchiver;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service.VoteTimelineStore;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.config.MenuArchiveConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MenuArchiverTest {
+
+    @Mock
+    private MenuRequestRepository menuRequestRepository;
+
+    @Mock
+    private MenuRequestArchiveRepository menuRequestArchiveRepository;
+
+    @Mock
+    private VoteTimelineStore voteTimelineStore;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    private MenuArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        MenuArchiveConfiguration configuration = new MenuArchiveConfiguration();
+        configuration.setChunkSize(2);
+        archiver = new MenuArchiver(configuration, menuRequestRepository, menuRequestArchiveRepository,
+                voteTimelineStore, eventPublisher, transactionTemplate);
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(transactionStatus));
+    }
+
+    @DisplayName("청크가 가득 차면 다음 청크를 이어서 옮기고, 청크마다 복사 후 투표와 메뉴 순서로 삭제")
+    @Test
+    void archive() {
+        // given
+        when(menuRequestRepository.findArchivable(eq(MenuState.DENIED), any(), eq(MenuState.ALLOWED), any(), any()))
+                .thenReturn(List.of(idState(1L, MenuState.DENIED), idState(2L, MenuState.ALLOWED)))
+                .thenReturn(List.of(idState(3L, MenuState.DENIED)));
+
+        // when
+        archiver.archive();
+
+        // then
+        InOrder inOrder = inOrder(menuRequestArchiveRepository);
+        inOrder.verify(menuRequestArchiveRepository).copyMenus(eq(List.of(1L, 2L)), any());
+        inOrder.verify(menuRequestArchiveRepository).copyVotes(eq(List.of(1L, 2L)), any());
+        inOrder.verify(menuRequestArchiveRepository).deleteVotes(List.of(1L, 2L));
+        inOrder.verify(menuRequestArchiveRepository).deleteMenus(List.of(1L, 2L));
+        inOrder.verify(menuRequestArchiveRepository).copyMenus(eq(List.of(3L)), any());
+        verify(voteTimelineStore).retire(List.of(1L, 2L));
+        verify(voteTimelineStore).retire(List.of(3L));
+        verify(transactionTemplate, times(2)).execute(any());
+
+        ArgumentCaptor<MenuArchivedEvent> event = ArgumentCaptor.forClass(MenuArchivedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(event.capture());
+        assertThat(event.getAllValues().get(0).getMenus()).containsOnlyKeys(1L, 2L);
+        assertThat(event.getAllValues().get(1).getMenus().get(3L).getState()).isEqualTo(MenuState.DENIED);
+    }
+
+    @DisplayName("옮길 메뉴가 없으면 아무것도 하지 않음")
+    @Test
+    void nothingToArchive() {
+        // given
+        when(menuRequestRepository.findArchivable(any(), any(), any(), any(), any())).thenReturn(List.of());
+
+        // when
+        archiver.archive();
+
+        // then
+        verifyNoInteractions(menuRequestArchiveRepository);
+        verify(eventPublisher, never()).publishEvent(any(MenuArchivedEvent.class));
+    }
+
+    private MenuIdState idState(long id, MenuState state) {
+        return new MenuIdState() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public MenuState getState() {
+                return state;
+            }
+
+            @Override
+            public MenuCategory getMenuCategory() {
+                return MenuCategory.KOREAN;
+            }
+        };
+    }
+}
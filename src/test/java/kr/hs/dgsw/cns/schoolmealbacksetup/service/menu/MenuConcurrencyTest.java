@@ -0,0 +1,185 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.service.menu;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.MenuRequest;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuStateEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.request.MenuStateDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuRequestRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.VoteRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service.MenuService;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.User;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.repository.UserRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.type.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 관리자 상태 변경과 투표가 동시에 몰릴 때 갱신이 유실되지 않는지 확인하고, 처리량을 기록합니다
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:menu-concurrency;MODE=MySQL;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "menu.optimistic-retry.delay=1"
+})
+class MenuConcurrencyTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(MenuConcurrencyTest.class);
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private MenuRequestRepository menuRequestRepository;
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StateChangeCounter stateChangeCounter;
+
+    @TestConfiguration
+    static class CounterConfiguration {
+        @Bean
+        StateChangeCounter stateChangeCounter() {
+            return new StateChangeCounter();
+        }
+    }
+
+    static class StateChangeCounter {
+        private final AtomicInteger committed = new AtomicInteger();
+
+        @TransactionalEventListener
+        public void onStateChanged(MenuStateEvent event) {
+            committed.addAndGet(event.getStates().size());
+        }
+    }
+
+    private User user(String openId, UserRole role) {
+        return userRepository.save(User.builder()
+                .name(openId)
+                .role(role)
+                .openId(openId)
+                .build());
+    }
+
+    private MenuRequest menu(User author) {
+        return menuRequestRepository.save(MenuRequest.builder()
+                .user(author)
+                .menuName("마라탕")
+                .content("마라탕 먹고싶어요")
+                .state(MenuState.STANDBY)
+                .menuCategory(MenuCategory.CHINESE)
+                .build());
+    }
+
+    private void authenticate(User user) {
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(user, "", user.getAuthorities()));
+    }
+
+    private double run(int threads, int tasks, IntConsumer task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                ready.await();
+                task.accept(index);
+                return null;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        ready.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        double seconds = (System.nanoTime() - begin) / 1_000_000_000.0;
+
+        for (Future<?> future : futures) {
+            assertThat(future).isDone();
+        }
+        return tasks / seconds;
+    }
+
+    @DisplayName("동시 상태 변경 시 커밋된 변경 수와 버전이 일치")
+    @Test
+    void concurrentStateUpdates() throws InterruptedException {
+        // given
+        User admin = user("admin", UserRole.ADMIN);
+        long menuId = menu(admin).getId();
+        int before = stateChangeCounter.committed.get();
+        AtomicInteger gaveUp = new AtomicInteger();
+
+        // when
+        double throughput = run(THREADS, 400, index -> {
+            authenticate(admin);
+            try {
+                menuService.updateState(admin, menuId, new MenuStateDto(index % 2 == 0));
+            } catch (OptimisticLockingFailureException ex) {
+                gaveUp.incrementAndGet();
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        });
+
+        // then
+        int committed = stateChangeCounter.committed.get() - before;
+        MenuRequest reloaded = menuRequestRepository.findById(menuId).orElseThrow();
+        logger.info("updateState x400 on {} threads: {} committed changes, {} gave up after retries, {} ops/s",
+                THREADS, committed, gaveUp.get(), String.format("%.1f", throughput));
+
+        // 커밋된 상태 변경마다 버전이 정확히 한 번씩 올라야 유실된 갱신이 없는 것입니다
+        assertThat(reloaded.getVersion()).isEqualTo((long) committed);
+    }
+
+    @DisplayName("동시 투표 시 모든 투표가 저장됨")
+    @Test
+    void concurrentVotes() throws InterruptedException {
+        // given
+        User author = user("author", UserRole.USER);
+        long menuId = menu(author).getId();
+        List<User> voters = new ArrayList<>();
+        for (int i = 0; i < 200; i++) voters.add(user("voter-" + i, UserRole.USER));
+
+        // when
+        double throughput = run(THREADS, voters.size(), index -> {
+            User voter = voters.get(index);
+            authenticate(voter);
+            try {
+                menuService.addVote(voter, menuId);
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        });
+
+        // then
+        logger.info("addVote x{} on {} threads: {} ops/s", voters.size(), THREADS, String.format("%.1f", throughput));
+        assertThat(voteRepository.findUserIdsByMenuRequestId(menuId)).hasSize(voters.size());
+        assertThat(menuRequestRepository.findById(menuId).orElseThrow().getVersion()).isZero();
+    }
+}
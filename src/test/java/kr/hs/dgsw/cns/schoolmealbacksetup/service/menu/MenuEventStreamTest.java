@@ -0,0 +1,160 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.service.menu;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuStateEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuVoteEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service.MenuEventStream;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class MenuEventStreamTest {
+
+    private MenuEventStream stream;
+
+    @BeforeEach
+    void setUp() {
+        stream = new MenuEventStream(new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        stream.shutdown();
+    }
+
+    @DisplayName("tick 사이의 변경은 메뉴별로 합쳐져 한 번에 전송")
+    @Test
+    void coalesceDeltas() throws IOException {
+        // given
+        SseEmitter emitter = mock(SseEmitter.class);
+        stream.register(emitter);
+        stream.onVote(new MenuVoteEvent(1L, 1));
+        stream.onVote(new MenuVoteEvent(1L, 1));
+        stream.onStateChanged(MenuStateEvent.of(2L, MenuCategory.KOREAN, MenuState.STANDBY, MenuState.ALLOWED));
+
+        // when
+        stream.tick();
+
+        // then
+        ArgumentCaptor<SseEmitter.SseEventBuilder> captor = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(emitter, timeout(1000)).send(captor.capture());
+        assertThat(text(captor.getValue()))
+                .contains("event:menu-delta")
+                .contains("{\"id\":1,\"vote_delta\":2}")
+                .contains("{\"id\":2,\"vote_delta\":0,\"menuState\":\"ALLOWED\"}");
+    }
+
+    @DisplayName("전송에 실패한 구독자는 해제되고 다음 tick 부터 제외")
+    @Test
+    void dropFailedEmitter() throws IOException {
+        // given
+        SseEmitter broken = mock(SseEmitter.class);
+        SseEmitter alive = mock(SseEmitter.class);
+        doThrow(new IOException("Broken pipe")).when(broken).send(any(SseEmitter.SseEventBuilder.class));
+        stream.register(broken);
+        stream.register(alive);
+
+        // when
+        stream.onVote(new MenuVoteEvent(1L, 1));
+        stream.tick();
+        verify(broken, timeout(1000)).completeWithError(any(IOException.class));
+        verify(alive, timeout(1000)).send(any(SseEmitter.SseEventBuilder.class));
+
+        stream.onVote(new MenuVoteEvent(1L, 1));
+        tickUntil(alive, 2);
+
+        // then
+        verify(broken, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(alive, times(2)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @DisplayName("느린 구독자가 있어도 tick 은 바로 반환되고, 밀린 변경은 다음 전송에 합쳐짐")
+    @Test
+    void slowEmitterDoesNotBlockTick() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        SseEmitter slow = mock(SseEmitter.class);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).doNothing().when(slow).send(any(SseEmitter.SseEventBuilder.class));
+        stream.register(slow);
+
+        // when
+        stream.onVote(new MenuVoteEvent(1L, 1));
+        stream.tick();
+        verify(slow, timeout(1000)).send(any(SseEmitter.SseEventBuilder.class));
+
+        stream.onVote(new MenuVoteEvent(1L, 1));
+        stream.tick();
+        stream.onVote(new MenuVoteEvent(1L, 1));
+        stream.tick();
+
+        // then
+        assertThat(release.getCount()).isEqualTo(1);
+
+        release.countDown();
+        tickUntil(slow, 2);
+        ArgumentCaptor<SseEmitter.SseEventBuilder> captor = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(slow, times(2)).send(captor.capture());
+        assertThat(text(captor.getAllValues().get(1))).contains("{\"id\":1,\"vote_delta\":2}");
+    }
+
+    @DisplayName("heartbeat 는 변경이 없어도 SSE 주석을 전송")
+    @Test
+    void heartbeat() throws IOException {
+        // given
+        SseEmitter emitter = mock(SseEmitter.class);
+        stream.register(emitter);
+
+        // when
+        stream.heartbeat();
+
+        // then
+        ArgumentCaptor<SseEmitter.SseEventBuilder> captor = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(emitter, timeout(1000)).send(captor.capture());
+        assertThat(text(captor.getValue())).isEqualTo(":heartbeat\n\n");
+    }
+
+    // 이전 전송이 끝나야 다음 tick 이 전송하므로, 기대한 횟수만큼 전송될 때까지 tick 을 반복합니다
+    private void tickUntil(SseEmitter emitter, int sends) {
+        long deadline = System.currentTimeMillis() + 1000;
+        while (sendCount(emitter) < sends && System.currentTimeMillis() < deadline) {
+            stream.tick();
+            sleep();
+        }
+    }
+
+    private static long sendCount(SseEmitter emitter) {
+        return mockingDetails(emitter).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("send"))
+                .count();
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String text(SseEmitter.SseEventBuilder event) {
+        return event.build().stream()
+                .map(data -> String.valueOf(data.getData()))
+                .collect(Collectors.joining());
+    }
+}
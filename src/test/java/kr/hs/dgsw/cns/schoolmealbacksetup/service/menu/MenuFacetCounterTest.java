@@ -0,0 +1,89 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.service.menu;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuCreatedEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuStateEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuFacetCount;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuRequestRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service.MenuFacetCounter;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MenuFacetCounterTest {
+
+    @Mock
+    private MenuRequestRepository menuRequestRepository;
+
+    @InjectMocks
+    private MenuFacetCounter menuFacetCounter;
+
+    @DisplayName("집계 결과로 채운 뒤 생성/상태 변경 이벤트로 칸을 옮김")
+    @Test
+    void countByEvents() {
+        // given
+        when(menuRequestRepository.countByCategoryAndState())
+                .thenReturn(List.of(facetCount(MenuCategory.KOREAN, MenuState.STANDBY, 2L)));
+        menuFacetCounter.rebuild();
+
+        // when
+        menuFacetCounter.onCreated(new MenuCreatedEvent(3L, "김밥", "참치 김밥", MenuCategory.KOREAN));
+        menuFacetCounter.onStateChanged(MenuStateEvent.of(1L, MenuCategory.KOREAN, MenuState.STANDBY, MenuState.ALLOWED));
+
+        // then
+        Map<MenuState, Long> korean = menuFacetCounter.snapshot().get(MenuCategory.KOREAN);
+        assertThat(korean.get(MenuState.STANDBY)).isEqualTo(2L);
+        assertThat(korean.get(MenuState.ALLOWED)).isEqualTo(1L);
+        assertThat(menuFacetCounter.snapshot().get(MenuCategory.CHINESE).get(MenuState.STANDBY)).isZero();
+    }
+
+    @DisplayName("재구성 중에는 이전 수를 보여주고, 그동안 들어온 이벤트는 새 수에 한 번만 반영함")
+    @Test
+    void serveDuringRebuild() {
+        // given
+        when(menuRequestRepository.countByCategoryAndState())
+                .thenReturn(List.of(facetCount(MenuCategory.KOREAN, MenuState.STANDBY, 2L)))
+                .thenAnswer(invocation -> {
+                    assertThat(menuFacetCounter.snapshot().get(MenuCategory.KOREAN).get(MenuState.STANDBY)).isEqualTo(2L);
+                    menuFacetCounter.onCreated(new MenuCreatedEvent(3L, "김밥", "참치 김밥", MenuCategory.KOREAN));
+                    return List.of(facetCount(MenuCategory.KOREAN, MenuState.STANDBY, 5L));
+                });
+        menuFacetCounter.rebuild();
+
+        // when
+        menuFacetCounter.rebuild();
+
+        // then
+        assertThat(menuFacetCounter.snapshot().get(MenuCategory.KOREAN).get(MenuState.STANDBY)).isEqualTo(6L);
+    }
+
+    private MenuFacetCount facetCount(MenuCategory category, MenuState state, long menus) {
+        return new MenuFacetCount() {
+            @Override
+            public MenuCategory getMenuCategory() {
+                return category;
+            }
+
+            @Override
+            public MenuState getState() {
+                return state;
+            }
+
+            @Override
+            public Long getMenus() {
+                return menus;
+            }
+        };
+    }
+}
@@ -0,0 +1,140 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.service.menu;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuCreatedEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuStateEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuVoteEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.RankedMenuDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuRequestRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuVoteCount;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service.MenuLeaderboard;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MenuLeaderboardTest {
+
+    @Mock
+    private MenuRequestRepository menuRequestRepository;
+
+    @InjectMocks
+    private MenuLeaderboard menuLeaderboard;
+
+    @DisplayName("집계로 채운 뒤 투표/생성/상태 변경 이벤트로 순위를 갱신")
+    @Test
+    void rankByEvents() {
+        // given
+        when(menuRequestRepository.countVotesByState(MenuState.STANDBY))
+                .thenReturn(List.of(voteCount(1L, "짜장면", 3L), voteCount(2L, "김치찌개", 2L)));
+        menuLeaderboard.rebuild();
+
+        // when
+        menuLeaderboard.onVote(new MenuVoteEvent(2L, 1));
+        menuLeaderboard.onVote(new MenuVoteEvent(2L, 1));
+        menuLeaderboard.onCreated(new MenuCreatedEvent(3L, "돈까스", "바삭하게", MenuCategory.WESTERN));
+        menuLeaderboard.onStateChanged(MenuStateEvent.of(1L, MenuCategory.CHINESE, MenuState.STANDBY, MenuState.ALLOWED));
+        menuLeaderboard.onVote(new MenuVoteEvent(1L, 1));
+
+        // then
+        assertThat(menuLeaderboard.top(10))
+                .extracting(RankedMenuDto::getRank, RankedMenuDto::getId, RankedMenuDto::getVotes)
+                .containsExactly(
+                        tuple(1, 2L, 4L),
+                        tuple(2, 3L, 0L));
+    }
+
+    @DisplayName("같은 투표 수면 id 순으로 정렬하고 요청한 개수만 반환")
+    @Test
+    void topBySize() {
+        // given
+        when(menuRequestRepository.countVotesByState(MenuState.STANDBY))
+                .thenReturn(List.of(voteCount(5L, "라면", 1L), voteCount(4L, "우동", 1L), voteCount(6L, "국밥", 7L)));
+        menuLeaderboard.rebuild();
+
+        // when
+        List<RankedMenuDto> top = menuLeaderboard.top(2);
+
+        // then
+        assertThat(ids(top)).containsExactly(6L, 4L);
+    }
+
+    @DisplayName("재구성 중에도 이전 순위를 조회하고, 그동안 들어온 투표는 새 순위에 반영")
+    @Test
+    void serveDuringRebuild() {
+        // given
+        when(menuRequestRepository.countVotesByState(MenuState.STANDBY))
+                .thenReturn(List.of(voteCount(1L, "짜장면", 3L)))
+                .thenAnswer(invocation -> {
+                    assertThat(ids(menuLeaderboard.top(10))).containsExactly(1L);
+                    menuLeaderboard.onVote(new MenuVoteEvent(2L, 1));
+                    return List.of(voteCount(1L, "짜장면", 3L), voteCount(2L, "김치찌개", 3L));
+                });
+        menuLeaderboard.rebuild();
+
+        // when
+        menuLeaderboard.rebuild();
+
+        // then
+        assertThat(menuLeaderboard.top(10))
+                .extracting(RankedMenuDto::getId, RankedMenuDto::getVotes)
+                .containsExactly(
+                        tuple(2L, 4L),
+                        tuple(1L, 3L));
+    }
+
+    @DisplayName("재구성에 실패하면 이전 순위를 유지")
+    @Test
+    void keepOnFailedRebuild() {
+        // given
+        when(menuRequestRepository.countVotesByState(MenuState.STANDBY))
+                .thenReturn(List.of(voteCount(1L, "짜장면", 3L)))
+                .thenThrow(new QueryTimeoutException("timeout"));
+        menuLeaderboard.rebuild();
+
+        // when
+        assertThrows(QueryTimeoutException.class, () -> menuLeaderboard.rebuild());
+        menuLeaderboard.onVote(new MenuVoteEvent(1L, 1));
+
+        // then
+        assertThat(menuLeaderboard.top(10))
+                .extracting(RankedMenuDto::getId, RankedMenuDto::getVotes)
+                .containsExactly(tuple(1L, 4L));
+    }
+
+    private static List<Long> ids(List<RankedMenuDto> ranked) {
+        return ranked.stream().map(RankedMenuDto::getId).collect(Collectors.toList());
+    }
+
+    private static MenuVoteCount voteCount(long id, String menuName, long votes) {
+        return new MenuVoteCount() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getMenuName() {
+                return menuName;
+            }
+
+            @Override
+            public Long getVotes() {
+                return votes;
+            }
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.service.menu;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuCreatedEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuRequestRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service.MenuSearchIndex;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class MenuSearchIndexTest {
+
+    @Mock
+    private MenuRequestRepository menuRequestRepository;
+
+    private MenuSearchIndex menuSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        menuSearchIndex = new MenuSearchIndex(menuRequestRepository);
+        menuSearchIndex.onCreated(new MenuCreatedEvent(1L, "마라탕", "얼얼한 마라탕 먹고싶어요", MenuCategory.CHINESE));
+        menuSearchIndex.onCreated(new MenuCreatedEvent(2L, "참치 김밥", "김밥에 참치 많이", MenuCategory.KOREAN));
+        menuSearchIndex.onCreated(new MenuCreatedEvent(3L, "로제 떡볶이", "마라 소스 말고 로제로", MenuCategory.KOREAN));
+    }
+
+    @DisplayName("이름에 검색어가 있는 메뉴가 내용에만 있는 메뉴보다 앞에 옴")
+    @Test
+    void rankByName() {
+        MenuSearchIndex.Result result = menuSearchIndex.search("마라", 0, 10);
+
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getMenuIds()).containsExactly(1L, 3L);
+    }
+
+    @DisplayName("띄어쓰기와 조사가 달라도 검색됨")
+    @Test
+    void partialMatch() {
+        assertThat(menuSearchIndex.search("김밥이", 0, 10).getMenuIds()).containsExactly(2L);
+        assertThat(menuSearchIndex.search("떡 볶이", 0, 10).getMenuIds()).containsExactly(3L);
+    }
+
+    @DisplayName("결과가 없거나 page 범위를 넘으면 빈 목록")
+    @Test
+    void emptyResult() {
+        assertThat(menuSearchIndex.search("피자", 0, 10).getMenuIds()).isEmpty();
+        assertThat(menuSearchIndex.search("  ", 0, 10).getTotal()).isZero();
+        assertThat(menuSearchIndex.search("마라", 1, 10).getMenuIds()).isEmpty();
+    }
+}
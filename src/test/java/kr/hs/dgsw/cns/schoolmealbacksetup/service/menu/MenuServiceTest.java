@@ -1,17 +1,30 @@
 package kr.hs.dgsw.cns.schoolmealbacksetup.service.menu;
 
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.MenuRequest;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.MenuRequestArchive;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.Vote;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.VoteId;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuStateEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.request.MenuBulkStateDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.request.MenuCreationDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.request.MenuSelectionType;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.MenuBulkStateResultDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.MenuDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.MenuListDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.SimilarMenuDto;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.request.MenuStateDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuIdState;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuRequestArchiveRepository;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuRequestRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.VoteArchiveRepository;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.VoteRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service.DirectVoteWriter;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service.MenuSearchIndex;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service.MenuServiceImpl;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service.MenuSimilarityIndex;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service.VoteWriter;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
-import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.AuthId;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.User;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.facade.UserFacade;
 import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.type.UserRole;
@@ -20,15 +33,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageImpl;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,9 +60,27 @@ class MenuServiceTest {
     @Mock
     private VoteRepository voteRepository;
 
+    @Mock
+    private VoteWriter voteWriter;
+
     @Mock
     private UserFacade userFacade;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private MenuSimilarityIndex menuSimilarityIndex;
+
+    @Mock
+    private MenuSearchIndex menuSearchIndex;
+
+    @Mock
+    private MenuRequestArchiveRepository menuRequestArchiveRepository;
+
+    @Mock
+    private VoteArchiveRepository voteArchiveRepository;
+
     @InjectMocks
     private MenuServiceImpl menuService;
 
@@ -80,13 +118,6 @@ class MenuServiceTest {
                 .build();
     }
 
-    private Vote toEntity(MenuRequest menuRequest, User user) {
-        return Vote.builder()
-                .id(new VoteId(new AuthId(user)))
-                .menuRequest(menuRequest)
-                .build();
-    }
-
 
     @DisplayName("메뉴 추가 테스트")
     @Test
@@ -111,6 +142,53 @@ class MenuServiceTest {
                 .save(any(MenuRequest.class));
     }
 
+    @DisplayName("비슷한 대기중인 메뉴가 있으면 추가 응답에 포함")
+    @Test
+    void addMenuWithSimilar() {
+        // given
+        MenuCreationDto menuCreationDto = menuCreationDto("마라탕 먹고싶어요", "얼얼하게");
+        List<SimilarMenuDto> similar = List.of(new SimilarMenuDto(7L, "마라탕", 1.0));
+        when(menuSimilarityIndex.findSimilar(eq("마라탕 먹고싶어요"), anyInt())).thenReturn(similar);
+        doReturn(toEntity(menuCreationDto)).when(menuRequestRepository).save(any(MenuRequest.class));
+        lenient().when(userFacade.getCurrentUser()).thenReturn(user());
+
+        // when
+        MenuDto menuDto = menuService.addMenu(user(), menuCreationDto);
+
+        // then
+        assertThat(menuDto.getSimilar()).extracting(SimilarMenuDto::getId).containsExactly(7L);
+    }
+
+    @DisplayName("보관된 메뉴 목록은 보관 테이블에서 조회하고 투표 여부를 한 번에 확인")
+    @Test
+    void findArchivedMenus() {
+        // given
+        MenuRequestArchive archive = MenuRequestArchive.builder()
+                .id(3L)
+                .userId(1L)
+                .createAt(LocalDateTime.now().minusDays(100))
+                .menuName("짜장면")
+                .content("곱빼기로")
+                .state(MenuState.ALLOWED)
+                .menuCategory(MenuCategory.CHINESE)
+                .votes(12L)
+                .build();
+        when(userFacade.getCurrentUser()).thenReturn(user());
+        when(menuRequestArchiveRepository.findAllByState(eq(MenuState.ALLOWED), any()))
+                .thenReturn(new PageImpl<>(List.of(archive)));
+        when(voteArchiveRepository.findVotedMenuRequestIds(1L, List.of(3L))).thenReturn(List.of(3L));
+
+        // when
+        MenuListDto menuListDto = menuService.findAllMenus(0, MenuSelectionType.ACCEPTED_TODAY, null, true);
+
+        // then
+        assertThat(menuListDto.getResult()).hasSize(1);
+        MenuDto menuDto = menuListDto.getResult().get(0);
+        assertThat(menuDto.getVotes()).isEqualTo(12);
+        assertThat(menuDto.getIsVoted()).isTrue();
+        verifyNoInteractions(menuRequestRepository);
+    }
+
     @DisplayName("id로 메뉴 조회")
     @Test
     void findMenuById() {
@@ -137,20 +215,44 @@ class MenuServiceTest {
     @Test
     void addVoteMenu() {
         // given
-        MenuCreationDto menuCreationDto = menuCreationDto("바나나 우유", "바나나는 원래 하얗다.");
-        MenuRequest menuRequest = toEntity(menuCreationDto);
-
-        lenient().doReturn(menuRequest).when(menuRequestRepository)
-                .save(any(MenuRequest.class));
+        User user = user();
         long id = 1L;
-        lenient().when(menuRequestRepository.findById(id))
-                .thenReturn(Optional.of(menuRequest));
+        lenient().when(menuRequestRepository.findWithOptimisticLockById(id))
+                .thenReturn(Optional.of(toEntity(menuCreationDto("마라탕", "마라탕 먹고싶어요"))));
 
         // when
-        menuService.addVote(user(), id);
+        menuService.addVote(user, id);
 
         // then
-        assertEquals(1, menuRequest.getVotes().size());
+        verify(voteWriter, times(1))
+                .addVote(user.getId(), id);
+    }
+
+    @DisplayName("중복 투표는 기본키 충돌로 거절")
+    @Test
+    void addVoteMenuTwice() {
+        // given
+        DirectVoteWriter directVoteWriter = new DirectVoteWriter(voteRepository);
+        lenient().when(voteRepository.insertIgnore(1L, 1L))
+                .thenReturn(0);
+
+        // when, then
+        assertThrows(Vote.AlreadyVoted.class, () -> directVoteWriter.addVote(1L, 1L));
+    }
+
+    @DisplayName("STANDBY 가 아닌 메뉴에 투표")
+    @Test
+    void addVoteNotStandby() {
+        // given
+        long id = 1L;
+        MenuRequest allowed = toEntity(menuCreationDto("마라탕", "마라탕 먹고싶어요"));
+        allowed.setMenuState(MenuState.ALLOWED);
+        lenient().when(menuRequestRepository.findWithOptimisticLockById(id))
+                .thenReturn(Optional.of(allowed));
+
+        // when, then
+        assertThrows(Vote.NotVotable.class, () -> menuService.addVote(user(), id));
+        verifyNoInteractions(voteWriter);
     }
 
     @DisplayName("id 로 투표 취소")
@@ -158,24 +260,16 @@ class MenuServiceTest {
     void cancelVoteMenu() {
         // given
         User user = user();
-        MenuCreationDto menuCreationDto = menuCreationDto("치킨", "아주 훌륭한 닭다리가 먹고 싶습니다.");
-        MenuRequest menuRequest = toEntity(menuCreationDto, new HashSet<>());
-        Vote vote = toEntity(menuRequest, user);
-        menuRequest.addVote(vote);
+        long id = 1L;
+        lenient().when(menuRequestRepository.findWithOptimisticLockById(id))
+                .thenReturn(Optional.of(toEntity(menuCreationDto("마라탕", "마라탕 먹고싶어요"))));
 
-        lenient().when(menuRequestRepository.findById(anyLong()))
-                .thenReturn(Optional.of(menuRequest));
-        lenient().when(voteRepository.findByIdIdUserAndMenuRequest(user, menuRequest))
-                .thenReturn(Optional.of(vote));
         // when
-        menuService.cancelVote(user, anyLong());
-
-        // then
-        assertEquals(0, menuRequest.getVotes().size());
+        menuService.cancelVote(user, id);
 
         // verity
-        verify(voteRepository, times(1))
-                .delete(vote);
+        verify(voteWriter, times(1))
+                .cancelVote(user.getId(), id);
     }
 
     @DisplayName("메뉴 상태 업데이트")
@@ -198,4 +292,93 @@ class MenuServiceTest {
         assertEquals(MenuState.ALLOWED, menuDto.getMenuState());
     }
 
+    @DisplayName("메뉴 상태 일괄 업데이트")
+    @Test
+    void menuBulkStateTest() {
+        // given
+        lenient().when(menuRequestRepository.findStatesByIdIn(anyCollection()))
+                .thenReturn(List.of(idState(1L, MenuState.STANDBY), idState(2L, MenuState.ALLOWED)));
+        when(menuRequestRepository.updateStateByIdInAndState(eq(MenuState.ALLOWED), any(), eq(List.of(1L)), eq(MenuState.STANDBY)))
+                .thenReturn(1);
+        MenuBulkStateDto menuBulkStateDto = new MenuBulkStateDto(List.of(
+                new MenuBulkStateDto.Item(1L, true),
+                new MenuBulkStateDto.Item(2L, true),
+                new MenuBulkStateDto.Item(3L, false)
+        ));
+
+        // when
+        MenuBulkStateResultDto result = menuService.updateStates(user(), menuBulkStateDto);
+
+        // then
+        assertThat(result.getResult())
+                .extracting(MenuBulkStateResultDto.Result::getStatus)
+                .containsExactly(
+                        MenuBulkStateResultDto.Status.UPDATED,
+                        MenuBulkStateResultDto.Status.UNCHANGED,
+                        MenuBulkStateResultDto.Status.NOT_FOUND
+                );
+
+        // verify
+        verify(menuRequestRepository, times(1))
+                .updateStateByIdInAndState(eq(MenuState.ALLOWED), any(), eq(List.of(1L)), eq(MenuState.STANDBY));
+        verify(eventPublisher, times(1))
+                .publishEvent(any(MenuStateEvent.class));
+    }
+
+    @DisplayName("읽은 뒤 다른 요청이 상태를 바꾸면 충돌로 되돌리고 이벤트를 발행하지 않음")
+    @Test
+    void menuBulkStateConflictTest() {
+        // given
+        when(menuRequestRepository.findStatesByIdIn(anyCollection()))
+                .thenReturn(List.of(idState(1L, MenuState.STANDBY), idState(2L, MenuState.STANDBY)));
+        when(menuRequestRepository.updateStateByIdInAndState(eq(MenuState.ALLOWED), any(), eq(List.of(1L, 2L)), eq(MenuState.STANDBY)))
+                .thenReturn(1);
+        MenuBulkStateDto menuBulkStateDto = new MenuBulkStateDto(List.of(
+                new MenuBulkStateDto.Item(1L, true),
+                new MenuBulkStateDto.Item(2L, true)
+        ));
+
+        // when, then
+        assertThrows(OptimisticLockingFailureException.class, () -> menuService.updateStates(user(), menuBulkStateDto));
+        verify(eventPublisher, never()).publishEvent(any(MenuStateEvent.class));
+    }
+
+    @DisplayName("로그인하지 않은 사용자도 검색할 수 있고, 투표 여부는 false")
+    @Test
+    void searchMenusAnonymously() {
+        // given
+        MenuRequest menu = toEntity(menuCreationDto("짜장면", "간짜장"),
+                Set.of(Vote.builder().id(new VoteId(1L, 1L)).build()));
+        when(menuSearchIndex.search("짜장", 0, 10)).thenReturn(new MenuSearchIndex.Result(1, List.of(1L)));
+        when(menuRequestRepository.findAllById(List.of(1L))).thenReturn(List.of(menu));
+        when(userFacade.findCurrentUser()).thenReturn(null);
+
+        // when
+        MenuListDto result = menuService.searchMenus("짜장", 0);
+
+        // then
+        assertThat(result.getResult()).extracting(MenuDto::getId).containsExactly(1L);
+        assertThat(result.getResult().get(0).getIsVoted()).isFalse();
+        verify(userFacade, never()).getCurrentUser();
+    }
+
+    private MenuIdState idState(long id, MenuState state) {
+        return new MenuIdState() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public MenuState getState() {
+                return state;
+            }
+
+            @Override
+            public MenuCategory getMenuCategory() {
+                return MenuCategory.KOREAN;
+            }
+        };
+    }
+
 }
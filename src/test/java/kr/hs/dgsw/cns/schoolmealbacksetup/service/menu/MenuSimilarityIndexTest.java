@@ -0,0 +1,103 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.service.menu;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuCreatedEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuStateEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.presentation.dto.response.SimilarMenuDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuRequestRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuText;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service.MenuSimilarityIndex;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MenuSimilarityIndexTest {
+
+    @Mock
+    private MenuRequestRepository menuRequestRepository;
+
+    private MenuSimilarityIndex menuSimilarityIndex;
+
+    @BeforeEach
+    void setUp() {
+        menuSimilarityIndex = new MenuSimilarityIndex(menuRequestRepository);
+        menuSimilarityIndex.onCreated(new MenuCreatedEvent(1L, "마라탕", "얼얼하게", MenuCategory.CHINESE));
+        menuSimilarityIndex.onCreated(new MenuCreatedEvent(2L, "참치 김밥", "참치 많이", MenuCategory.KOREAN));
+    }
+
+    @DisplayName("한쪽 이름이 다른 쪽을 포함하거나 띄어쓰기만 다르면 비슷한 메뉴로 찾음")
+    @Test
+    void findSimilar() {
+        assertThat(menuSimilarityIndex.findSimilar("마라탕 먹고싶어요", 5))
+                .extracting(SimilarMenuDto::getId).containsExactly(1L);
+        assertThat(menuSimilarityIndex.findSimilar("참치김밥", 5))
+                .extracting(SimilarMenuDto::getSimilarity).containsExactly(1.0);
+        assertThat(menuSimilarityIndex.findSimilar("김치찌개", 5)).isEmpty();
+    }
+
+    @DisplayName("짧은 이름이 훨씬 긴 요청에 포함돼 Jaccard 가 낮아도 후보로 찾음")
+    @Test
+    void findShortInLong() {
+        // 2-gram 2개 / 23개 -> Jaccard 약 0.09
+        assertThat(menuSimilarityIndex.findSimilar("마라탕 너무 먹고 싶어요 매운맛으로 급식에 꼭 넣어주세요", 5))
+                .extracting(SimilarMenuDto::getId, SimilarMenuDto::getSimilarity)
+                .containsExactly(tuple(1L, 1.0));
+    }
+
+    @DisplayName("대기중이 아닌 메뉴는 결과에서 제외")
+    @Test
+    void excludeDecidedMenu() {
+        menuSimilarityIndex.onStateChanged(MenuStateEvent.of(1L, MenuCategory.CHINESE, MenuState.STANDBY, MenuState.ALLOWED));
+
+        assertThat(menuSimilarityIndex.findSimilar("마라탕", 5)).isEmpty();
+    }
+
+    @DisplayName("재구성 중에도 이전 색인으로 찾고, 그동안 추가된 메뉴는 새 색인에도 남음")
+    @Test
+    void serveDuringRebuild() {
+        // given
+        when(menuRequestRepository.findTextsByState(MenuState.STANDBY)).thenAnswer(invocation -> {
+            assertThat(menuSimilarityIndex.findSimilar("마라탕", 5)).extracting(SimilarMenuDto::getId).containsExactly(1L);
+            menuSimilarityIndex.onCreated(new MenuCreatedEvent(3L, "돈까스 정식", "바삭하게", MenuCategory.JAPANESE));
+            return List.of(menuText(1L, "마라탕"));
+        });
+
+        // when
+        menuSimilarityIndex.rebuild();
+
+        // then
+        assertThat(menuSimilarityIndex.findSimilar("마라탕", 5)).extracting(SimilarMenuDto::getId).containsExactly(1L);
+        assertThat(menuSimilarityIndex.findSimilar("돈까스", 5)).extracting(SimilarMenuDto::getId).containsExactly(3L);
+        assertThat(menuSimilarityIndex.findSimilar("참치김밥", 5)).isEmpty();
+    }
+
+    private static MenuText menuText(long id, String menuName) {
+        return new MenuText() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getMenuName() {
+                return menuName;
+            }
+
+            @Override
+            public String getContent() {
+                return "";
+            }
+        };
+    }
+}
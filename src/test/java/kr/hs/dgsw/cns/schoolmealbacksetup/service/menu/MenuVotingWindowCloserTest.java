@@ -0,0 +1,155 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.service.menu;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.event.MenuStateEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.ExpiredMenu;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuIdVotes;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.MenuRequestRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.VoteRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service.MenuVotingWindowCloser;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service.VoteWriter;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuCategory;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.type.MenuState;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.batch.BatchCursor;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.batch.BatchCursorRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.config.VotingWindowConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MenuVotingWindowCloserTest {
+
+    @Mock
+    private MenuRequestRepository menuRequestRepository;
+
+    @Mock
+    private VoteRepository voteRepository;
+
+    @Mock
+    private BatchCursorRepository batchCursorRepository;
+
+    @Mock
+    private VoteWriter voteWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    private MenuVotingWindowCloser closer;
+
+    private final LocalDateTime createdAt = LocalDateTime.of(2022, 3, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        VotingWindowConfiguration configuration = new VotingWindowConfiguration();
+        configuration.setAcceptThreshold(10);
+        configuration.setChunkSize(100);
+        closer = new MenuVotingWindowCloser(configuration, menuRequestRepository, voteRepository,
+                batchCursorRepository, voteWriter, eventPublisher, transactionTemplate);
+
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(transactionStatus));
+        when(batchCursorRepository.findById("menu-voting-window")).thenReturn(Optional.empty());
+        when(menuRequestRepository.findExpired(eq(MenuState.STANDBY), any(), eq(BatchCursor.BEGINNING), eq(0L), any()))
+                .thenReturn(List.of(expired(1L), expired(2L)));
+    }
+
+    @DisplayName("기준 이상 득표한 메뉴는 승인, 나머지는 거절하고 진행 위치를 저장")
+    @Test
+    void closeExpired() {
+        // given
+        when(voteRepository.countByMenuRequestIdIn(List.of(1L, 2L))).thenReturn(List.of(votes(1L, 12L)));
+        when(menuRequestRepository.updateStateByIdInAndState(any(), any(), any(), eq(MenuState.STANDBY)))
+                .thenReturn(1);
+
+        // when
+        closer.closeExpired();
+
+        // then
+        verify(menuRequestRepository).updateStateByIdInAndState(eq(MenuState.ALLOWED), any(), eq(List.of(1L)), eq(MenuState.STANDBY));
+        verify(menuRequestRepository).updateStateByIdInAndState(eq(MenuState.DENIED), any(), eq(List.of(2L)), eq(MenuState.STANDBY));
+        verify(voteWriter, times(2)).evict(anyLong());
+
+        ArgumentCaptor<BatchCursor> cursor = ArgumentCaptor.forClass(BatchCursor.class);
+        verify(batchCursorRepository).save(cursor.capture());
+        assertThat(cursor.getValue().getLastId()).isEqualTo(2L);
+        assertThat(cursor.getValue().getLastTime()).isEqualTo(createdAt);
+
+        ArgumentCaptor<MenuStateEvent> event = ArgumentCaptor.forClass(MenuStateEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getStates()).containsEntry(1L, MenuState.ALLOWED).containsEntry(2L, MenuState.DENIED);
+    }
+
+    @DisplayName("그 사이 관리자가 상태를 바꾸면 청크를 되돌리고 진행 위치를 저장하지 않음")
+    @Test
+    void rollbackOnConflict() {
+        // given
+        when(voteRepository.countByMenuRequestIdIn(List.of(1L, 2L))).thenReturn(List.of());
+        when(menuRequestRepository.updateStateByIdInAndState(any(), any(), any(), eq(MenuState.STANDBY)))
+                .thenReturn(1);
+
+        // when
+        closer.closeExpired();
+
+        // then
+        verify(transactionStatus).setRollbackOnly();
+        verify(batchCursorRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any(MenuStateEvent.class));
+    }
+
+    private ExpiredMenu expired(long id) {
+        return new ExpiredMenu() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getCreateAt() {
+                return createdAt;
+            }
+
+            @Override
+            public MenuCategory getMenuCategory() {
+                return MenuCategory.KOREAN;
+            }
+        };
+    }
+
+    private MenuIdVotes votes(long id, long votes) {
+        return new MenuIdVotes() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getVotes() {
+                return votes;
+            }
+        };
+    }
+}
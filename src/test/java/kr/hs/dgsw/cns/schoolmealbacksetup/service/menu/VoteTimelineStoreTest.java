@@ -0,0 +1,139 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.service.menu;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.VoteTimeline;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.VoteTimelineRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service.VoteTimelineStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VoteTimelineStoreTest {
+
+    private static final long NOW = 460_000L;
+
+    @Mock
+    private VoteTimelineRepository voteTimelineRepository;
+
+    @InjectMocks
+    private VoteTimelineStore voteTimelineStore;
+
+    @DisplayName("같은 시간의 투표/취소는 한 칸에 합산되고 비어있는 시간은 0")
+    @Test
+    void timeline() {
+        // given
+        voteTimelineStore.record(1L, 1, NOW - 2);
+        voteTimelineStore.record(1L, 1, NOW);
+        voteTimelineStore.record(1L, 1, NOW);
+        voteTimelineStore.record(1L, -1, NOW);
+
+        // when
+        int[] timeline = voteTimelineStore.timeline(1L, 4, NOW);
+
+        // then
+        assertThat(timeline).containsExactly(0, 1, 0, 1);
+        assertThat(voteTimelineStore.timeline(2L, 4, NOW)).isNull();
+    }
+
+    @DisplayName("한 바퀴 이상 지난 칸은 다시 쓰기 전에 비움")
+    @Test
+    void wrapAround() {
+        // given
+        voteTimelineStore.record(1L, 5, NOW);
+
+        // when
+        voteTimelineStore.record(1L, 1, NOW + VoteTimelineStore.HOURS);
+
+        // then
+        int[] timeline = voteTimelineStore.timeline(1L, VoteTimelineStore.HOURS, NOW + VoteTimelineStore.HOURS);
+        assertThat(timeline[VoteTimelineStore.HOURS - 1]).isEqualTo(1);
+        assertThat(timeline).containsOnly(0, 1);
+    }
+
+    @DisplayName("바뀐 메뉴만 저장하고, 저장한 값으로 복원")
+    @Test
+    void flushAndLoad() {
+        // given
+        voteTimelineStore.record(1L, 3, NOW);
+        voteTimelineStore.record(2L, 1, NOW - 1);
+
+        // when
+        voteTimelineStore.flush();
+        voteTimelineStore.flush();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<VoteTimeline>> saved = ArgumentCaptor.forClass(List.class);
+        verify(voteTimelineRepository, times(1)).saveAll(saved.capture());
+        List<VoteTimeline> timelines = new ArrayList<>(saved.getValue());
+        assertThat(timelines).hasSize(2);
+
+        when(voteTimelineRepository.findAll()).thenReturn(timelines);
+        VoteTimelineStore restored = new VoteTimelineStore(voteTimelineRepository);
+        restored.load();
+        assertThat(restored.timeline(1L, 2, NOW)).containsExactly(0, 3);
+        assertThat(restored.timeline(2L, 2, NOW)).containsExactly(1, 0);
+    }
+
+    @DisplayName("보관 처리 중인 메뉴는 flush 에서 제외하고, 커밋되면 메모리에서도 지움")
+    @Test
+    void retireOnCommit() {
+        // given
+        voteTimelineStore.record(1L, 3, NOW);
+        voteTimelineStore.record(2L, 1, NOW);
+
+        // when
+        List<TransactionSynchronization> synchronizations = inTransaction(() -> {
+            voteTimelineStore.retire(List.of(1L));
+            voteTimelineStore.flush();
+        });
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // then
+        verify(voteTimelineRepository).deleteAllByIdInBatch(List.of(1L));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<VoteTimeline>> saved = ArgumentCaptor.forClass(List.class);
+        verify(voteTimelineRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(VoteTimeline::getMenuRequestId).containsExactly(2L);
+        assertThat(voteTimelineStore.timeline(1L, 1, NOW)).isNull();
+    }
+
+    @DisplayName("보관 처리가 되돌려지면 메모리 기록을 유지하고 다음 flush 에 저장")
+    @Test
+    void keepOnRollback() {
+        // given
+        voteTimelineStore.record(1L, 3, NOW);
+
+        // when
+        List<TransactionSynchronization> synchronizations = inTransaction(() -> voteTimelineStore.retire(List.of(1L)));
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        voteTimelineStore.flush();
+
+        // then
+        assertThat(voteTimelineStore.timeline(1L, 1, NOW)).containsExactly(3);
+        verify(voteTimelineRepository).saveAll(anyList());
+    }
+
+    private static List<TransactionSynchronization> inTransaction(Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            return TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
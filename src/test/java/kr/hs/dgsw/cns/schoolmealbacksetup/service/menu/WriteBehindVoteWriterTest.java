@@ -0,0 +1,146 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.service.menu;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.entity.Vote;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.repository.VoteRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.menu.service.WriteBehindVoteWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindVoteWriterTest {
+
+    private static final String INSERT_SQL = "INSERT IGNORE INTO vote (user_id, menu_request_id) VALUES (?, ?)";
+    private static final String DELETE_SQL = "DELETE FROM vote WHERE user_id = ? AND menu_request_id = ?";
+
+    @Mock
+    private VoteRepository voteRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private WriteBehindVoteWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new WriteBehindVoteWriter(voteRepository, jdbcTemplate, new TransactionTemplate(transactionManager));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @SuppressWarnings("unchecked")
+    @DisplayName("커밋된 투표만 flush 때 batch 로 저장하고, 이미 투표한 사용자는 메모리에서 거절")
+    @Test
+    void flushCommittedVotes() {
+        // given
+        when(voteRepository.findUserIdsByMenuRequestId(1L)).thenReturn(List.of(10L));
+        inTransaction(() -> writer.addVote(20L, 1L), TransactionSynchronization.STATUS_COMMITTED);
+
+        // when
+        assertThrows(Vote.AlreadyVoted.class, () -> writer.addVote(10L, 1L));
+        writer.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> inserts = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(INSERT_SQL), inserts.capture());
+        assertThat(inserts.getValue()).containsExactly(new Object[] { 20L, 1L });
+        verify(jdbcTemplate, never()).batchUpdate(eq(DELETE_SQL), anyList());
+        verify(voteRepository, times(1)).findUserIdsByMenuRequestId(1L);
+    }
+
+    @DisplayName("트랜잭션이 되돌려지면 버퍼에 넣지 않고, 재시도한 같은 투표는 다시 받음")
+    @Test
+    void rollbackReleasesVote() {
+        // given
+        when(voteRepository.findUserIdsByMenuRequestId(1L)).thenReturn(List.of());
+        inTransaction(() -> writer.addVote(20L, 1L), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // when
+        writer.flush();
+        inTransaction(() -> writer.addVote(20L, 1L), TransactionSynchronization.STATUS_COMMITTED);
+
+        // then
+        verifyNoInteractions(jdbcTemplate);
+        writer.flush();
+        verify(jdbcTemplate).batchUpdate(eq(INSERT_SQL), anyList());
+    }
+
+    @DisplayName("커밋 전에 메뉴가 evict 되어도 커밋된 취소는 다음 flush 에 저장")
+    @Test
+    void commitAfterEvict() {
+        // given
+        when(voteRepository.findUserIdsByMenuRequestId(1L)).thenReturn(List.of(10L));
+        TransactionSynchronizationManager.initSynchronization();
+        writer.cancelVote(10L, 1L);
+        writer.evict(1L);
+
+        // when
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        writer.flush();
+
+        // then
+        verify(jdbcTemplate).batchUpdate(eq(DELETE_SQL), anyList());
+    }
+
+    @DisplayName("한 주기 동안 조용한 메뉴의 버퍼는 내려놓고, 진행 중인 투표가 있으면 유지")
+    @Test
+    void releaseIdleStripes() {
+        // given
+        when(voteRepository.findUserIdsByMenuRequestId(1L)).thenReturn(List.of(10L));
+        when(voteRepository.findUserIdsByMenuRequestId(2L)).thenReturn(List.of());
+        writer.addVote(20L, 1L);
+        writer.flush();
+        TransactionSynchronizationManager.initSynchronization();
+        writer.addVote(30L, 2L);
+
+        // when
+        writer.flush();
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertThrows(Vote.AlreadyVoted.class, () -> writer.addVote(10L, 1L));
+        writer.flush();
+
+        // then
+        verify(voteRepository, times(2)).findUserIdsByMenuRequestId(1L);
+        verify(voteRepository, times(1)).findUserIdsByMenuRequestId(2L);
+        verify(jdbcTemplate, times(2)).batchUpdate(eq(INSERT_SQL), anyList());
+    }
+
+    private static void inTransaction(Runnable body, int status) {
+        TransactionSynchronizationManager.initSynchronization();
+        body.run();
+        complete(status);
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization synchronization : synchronizations) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) synchronization.afterCommit();
+            synchronization.afterCompletion(status);
+        }
+    }
+}
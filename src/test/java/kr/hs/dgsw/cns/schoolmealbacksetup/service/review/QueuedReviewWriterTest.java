@@ -0,0 +1,192 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.service.review;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.Review;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service.QueuedReviewWriter;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service.ReviewRecorder;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service.ReviewedUserIndex;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.ReviewTime;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.User;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.type.UserRole;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.config.ReviewIngestConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.validation.ConstraintViolationException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueuedReviewWriterTest {
+
+    @Mock
+    private ReviewRecorder reviewRecorder;
+
+    @Mock
+    private ReviewedUserIndex reviewedUserIndex;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private QueuedReviewWriter writer;
+
+    // record 가 호출된 시점의 묶음 크기
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReviewIngestConfiguration configuration = new ReviewIngestConfiguration();
+        configuration.setQueueCapacity(5);
+        configuration.setBatchSize(2);
+        writer = new QueuedReviewWriter(configuration, reviewRecorder, reviewedUserIndex, new TransactionTemplate(transactionManager));
+    }
+
+    @DisplayName("큐가 가득 차면 503 으로 거절")
+    @Test
+    void rejectWhenFull() {
+        // given
+        for (int i = 0; i < 5; i++) writer.write(review(i));
+
+        // when
+        Review.IngestQueueFull ex = assertThrows(Review.IngestQueueFull.class, () -> writer.write(review(5)));
+
+        // then
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        verifyNoInteractions(reviewRecorder);
+    }
+
+    @DisplayName("flush 는 큐를 batch-size 단위 트랜잭션으로 나눠 저장")
+    @Test
+    void flushInBatches() {
+        // given
+        recordBatchSizes();
+        for (int i = 0; i < 5; i++) writer.write(review(i));
+
+        // when
+        writer.flush();
+
+        // then
+        assertThat(batchSizes).containsExactly(2, 2, 1);
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @DisplayName("저장에 실패한 묶음은 id 를 비운 새 엔티티로 다음 flush 에서 먼저 저장")
+    @Test
+    void retryFailedBatch() {
+        // given
+        doThrow(new QueryTimeoutException("timeout")).doNothing().when(reviewRecorder).record(anyList(), anyMap());
+        Review first = review(0);
+        writer.write(first);
+        writer.write(review(1));
+
+        // when
+        writer.flush();
+        writer.flush();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Review>> batches = ArgumentCaptor.forClass(List.class);
+        verify(reviewRecorder, times(2)).record(batches.capture(), anyMap());
+        List<Review> retried = batches.getAllValues().get(1);
+        assertThat(retried).extracting(Review::getMessage).containsExactly("리뷰 0", "리뷰 1");
+        assertThat(retried.get(0)).isNotSameAs(first);
+        assertThat(retried).extracting(Review::getId).containsOnlyNulls();
+    }
+
+    @DisplayName("중복 리뷰가 섞인 묶음은 하나씩 다시 저장하고 중복만 버림")
+    @Test
+    void dropDuplicateInBatch() {
+        // given
+        doAnswer(invocation -> {
+            List<Review> batch = invocation.getArgument(0);
+            if (batch.size() > 1 || batch.get(0).getMessage().equals("리뷰 1"))
+                throw new DataIntegrityViolationException("uk_review_user_date_review_time");
+            return null;
+        }).when(reviewRecorder).record(anyList(), anyMap());
+        writer.write(review(0));
+        writer.write(review(1));
+
+        // when
+        writer.flush();
+        writer.flush();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Review>> batches = ArgumentCaptor.forClass(List.class);
+        verify(reviewRecorder, times(3)).record(batches.capture(), anyMap());
+        assertThat(batches.getAllValues()).extracting(List::size).containsExactly(2, 1, 1);
+    }
+
+    @DisplayName("검증에 실패한 리뷰는 묶음에서 골라 버리고 작성 표시를 지움")
+    @Test
+    void dropInvalidInBatch() {
+        // given
+        doAnswer(invocation -> {
+            List<Review> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(review -> review.getMessage().equals("리뷰 1")))
+                throw new ConstraintViolationException("message: length must be between 0 and 200", Set.of());
+            batchSizes.add(batch.size());
+            return null;
+        }).when(reviewRecorder).record(anyList(), anyMap());
+        writer.write(review(0));
+        writer.write(review(1));
+
+        // when
+        writer.flush();
+        writer.flush();
+
+        // then
+        assertThat(batchSizes).containsExactly(1);
+        verify(reviewedUserIndex).release(LocalDate.of(2022, 7, 13), ReviewTime.LUNCH, 2L);
+        verifyNoMoreInteractions(reviewedUserIndex);
+        verify(reviewRecorder, times(3)).record(anyList(), anyMap());
+    }
+
+    @DisplayName("종료 시 남은 리뷰를 모두 저장하고 이후 요청은 거절")
+    @Test
+    void drainOnShutdown() {
+        // given
+        recordBatchSizes();
+        for (int i = 0; i < 3; i++) writer.write(review(i));
+
+        // when
+        writer.flushOnShutdown();
+
+        // then
+        assertThat(batchSizes).containsExactly(2, 1);
+        assertThrows(Review.IngestQueueFull.class, () -> writer.write(review(3)));
+    }
+
+    private void recordBatchSizes() {
+        doAnswer(invocation -> batchSizes.add(invocation.<List<Review>>getArgument(0).size()))
+                .when(reviewRecorder).record(anyList(), anyMap());
+    }
+
+    private static Review review(int index) {
+        return Review.builder()
+                .user(User.builder().id(index + 1L).name("테스터").role(UserRole.USER).build())
+                .date(LocalDate.of(2022, 7, 13))
+                .reviewTime(ReviewTime.LUNCH)
+                .message("리뷰 " + index)
+                .rate(index % 5 + 1)
+                .build();
+    }
+}
@@ -0,0 +1,162 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.service.review;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.Dish;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.Review;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.ReviewDish;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.ReviewDishId;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.ReviewRatingSummaryId;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.event.ReviewDishEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.event.ReviewMessageEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.event.ReviewWrittenEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.DishRankingDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.DishRatingDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.DishRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.ReviewDishRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.ReviewRatingSummaryRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.ReviewRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service.DishRatingBoard;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service.ReviewRecorder;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.ReviewTime;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.User;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.type.UserRole;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.infra.neis.MealPlannerInfra;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewDishTest {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private ReviewRatingSummaryRepository reviewRatingSummaryRepository;
+
+    @Mock
+    private DishRepository dishRepository;
+
+    @Mock
+    private ReviewDishRepository reviewDishRepository;
+
+    @Mock
+    private MealPlannerInfra mealPlannerInfra;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @SuppressWarnings("unchecked")
+    @DisplayName("리뷰를 작성한 식사의 요리만 알레르기 표기를 떼고 연결")
+    @Test
+    void attachDishes() {
+        // given
+        ReviewRecorder recorder = new ReviewRecorder(reviewRepository, reviewRatingSummaryRepository,
+                dishRepository, reviewDishRepository, mealPlannerInfra, eventPublisher);
+        LocalDate today = LocalDate.now();
+        String date = today.toString().replace("-", "");
+        when(mealPlannerInfra.getMealsOfDate(anyInt(), anyInt(), anyInt())).thenReturn(List.of(
+                new MealPlannerInfra.MealItem(date, "조식", List.of("*기장밥", "새알심만두국")),
+                new MealPlannerInfra.MealItem(date, "중식", List.of("*기장밥", "오향장육 (5.6.10)"))));
+        when(reviewRepository.saveAllAndFlush(anyList())).thenReturn(List.of(
+                review(10L, today, 5), review(11L, today, 3)));
+        Set<String> names = Set.of("기장밥", "오향장육");
+        when(dishRepository.findAllByNameIn(names))
+                .thenReturn(List.of(new Dish(1L, "기장밥")))
+                .thenReturn(List.of(new Dish(1L, "기장밥"), new Dish(2L, "오향장육")));
+
+        // when
+        List<Review> reviews = List.of(review(null, today, 5), review(null, today, 3));
+        recorder.record(reviews, recorder.findMealDishes(reviews));
+
+        // then
+        verify(mealPlannerInfra, times(1)).getMealsOfDate(anyInt(), anyInt(), anyInt());
+        verify(dishRepository).insertIgnore("오향장육");
+        verify(dishRepository, never()).insertIgnore("기장밥");
+
+        ArgumentCaptor<List<ReviewDish>> links = ArgumentCaptor.forClass(List.class);
+        verify(reviewDishRepository).saveAll(links.capture());
+        assertThat(links.getValue()).extracting(ReviewDish::getId).containsExactly(
+                new ReviewDishId(10L, 1L), new ReviewDishId(10L, 2L),
+                new ReviewDishId(11L, 1L), new ReviewDishId(11L, 2L));
+
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(5)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).filteredOn(ReviewWrittenEvent.class::isInstance).hasSize(1);
+        assertThat(events.getAllValues()).filteredOn(ReviewMessageEvent.class::isInstance).hasSize(2);
+        List<ReviewDishEvent> dishEvents = events.getAllValues().stream()
+                .filter(ReviewDishEvent.class::isInstance)
+                .map(ReviewDishEvent.class::cast)
+                .collect(Collectors.toList());
+        assertThat(dishEvents).extracting(ReviewDishEvent::getRate).containsExactly(5, 3);
+        assertThat(dishEvents.get(0).getDishes()).containsOnlyKeys(1L, 2L);
+    }
+
+    @DisplayName("식단표 조회에 실패한 날짜는 잠시 다시 조회하지 않고 요리 없이 저장")
+    @Test
+    void backOffFailedMealPlanner() {
+        // given
+        ReviewRecorder recorder = new ReviewRecorder(reviewRepository, reviewRatingSummaryRepository,
+                dishRepository, reviewDishRepository, mealPlannerInfra, eventPublisher);
+        LocalDate today = LocalDate.now();
+        when(mealPlannerInfra.getMealsOfDate(anyInt(), anyInt(), anyInt()))
+                .thenThrow(new MealPlannerInfra.MealParseFailedException());
+        List<Review> reviews = List.of(review(null, today, 5));
+
+        // when
+        Map<ReviewRatingSummaryId, Set<String>> first = recorder.findMealDishes(reviews);
+        Map<ReviewRatingSummaryId, Set<String>> second = recorder.findMealDishes(reviews);
+
+        // then
+        verify(mealPlannerInfra, times(1)).getMealsOfDate(anyInt(), anyInt(), anyInt());
+        assertThat(first).isEqualTo(second).containsOnlyKeys(new ReviewRatingSummaryId(today, ReviewTime.LUNCH));
+        assertThat(first.values()).allMatch(Set::isEmpty);
+    }
+
+    @DisplayName("리뷰 수가 기준 이상인 요리만 평균 평점 순으로 정렬")
+    @Test
+    void ranking() {
+        // given
+        DishRatingBoard board = new DishRatingBoard(dishRepository, reviewDishRepository);
+        LocalDate date = LocalDate.of(2022, 7, 13);
+        for (int rate : new int[] { 5, 4, 5 }) board.onReviewed(new ReviewDishEvent(date, rate, Map.of(1L, "오향장육", 2L, "기장밥")));
+        for (int rate : new int[] { 1, 2, 1 }) board.onReviewed(new ReviewDishEvent(date, rate, Map.of(3L, "미소된장국", 2L, "기장밥")));
+        board.onReviewed(new ReviewDishEvent(date, 5, Map.of(4L, "떡볶이")));
+
+        // when
+        DishRankingDto ranking = board.ranking(YearMonth.of(2022, 7), 5);
+
+        // then
+        assertThat(ranking.getBest()).extracting(DishRatingDto::getDishName).containsExactly("오향장육", "기장밥", "미소된장국");
+        assertThat(ranking.getWorst()).extracting(DishRatingDto::getDishName).containsExactly("미소된장국", "기장밥", "오향장육");
+        assertThat(ranking.getBest().get(1).getReviews()).isEqualTo(6L);
+        assertThat(ranking.getBest().get(0).getAverage()).isEqualTo(4.67);
+        assertThat(board.ranking(YearMonth.of(2022, 8), 5).getBest()).isEmpty();
+    }
+
+    private static Review review(Long id, LocalDate date, int rate) {
+        return Review.builder()
+                .id(id)
+                .user(User.builder().id(1L).name("테스터").role(UserRole.USER).build())
+                .date(date)
+                .reviewTime(ReviewTime.LUNCH)
+                .message("오향장육 최고")
+                .rate(rate)
+                .build();
+    }
+}
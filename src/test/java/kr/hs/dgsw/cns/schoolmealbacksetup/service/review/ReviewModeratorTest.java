@@ -0,0 +1,75 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.service.review;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.Review;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service.ReviewModerator;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.config.ReviewModerationConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReviewModeratorTest {
+
+    @DisplayName("mask 정책은 금칙어의 글자만 가리고 허용 단어는 그대로 둠")
+    @Test
+    void mask() {
+        ReviewModerator moderator = moderator("mask", "classpath:moderation/words.txt");
+
+        ReviewModerator.Result result = moderator.moderate("떡볶이 존 나 맛있음, 시발점은 돈까스");
+
+        assertThat(result.getMessage()).isEqualTo("떡볶이 * * 맛있음, 시발점은 돈까스");
+        assertThat(result.isFlagged()).isFalse();
+        assertThat(moderator.moderate("오향장육 최고").getMessage()).isEqualTo("오향장육 최고");
+    }
+
+    @DisplayName("flag 정책은 내용을 그대로 두고 표시만 함")
+    @Test
+    void flag() {
+        ReviewModerator moderator = moderator("flag", "classpath:moderation/words.txt");
+
+        ReviewModerator.Result result = moderator.moderate("카톡문의 주세요");
+
+        assertThat(result.getMessage()).isEqualTo("카톡문의 주세요");
+        assertThat(result.isFlagged()).isTrue();
+    }
+
+    @DisplayName("reject 정책은 금칙어가 있으면 거절")
+    @Test
+    void reject() {
+        ReviewModerator moderator = moderator("reject", "classpath:moderation/words.txt");
+
+        assertThrows(Review.InappropriateMessage.class, () -> moderator.moderate("ㅅ ㅂ 맛없어"));
+        assertThat(moderator.moderate("맛없어요").isFlagged()).isFalse();
+    }
+
+    @DisplayName("목록이 바뀌면 다시 읽어 새 금칙어를 적용")
+    @Test
+    void reload(@TempDir Path directory) throws IOException {
+        Path words = directory.resolve("words.txt");
+        Files.writeString(words, "# 테스트\n짜요\n", StandardCharsets.UTF_8);
+        ReviewModerator moderator = moderator("mask", "file:" + words);
+        assertThat(moderator.moderate("너무 짜요 싱거워요").getMessage()).isEqualTo("너무 ** 싱거워요");
+
+        Files.writeString(words, "싱거워\n", StandardCharsets.UTF_8);
+        moderator.reload();
+
+        assertThat(moderator.moderate("너무 짜요 싱거워요").getMessage()).isEqualTo("너무 짜요 ***요");
+    }
+
+    private static ReviewModerator moderator(String policy, String words) {
+        ReviewModerationConfiguration configuration = new ReviewModerationConfiguration();
+        configuration.setPolicy(policy);
+        configuration.setWords(words);
+        ReviewModerator moderator = new ReviewModerator(configuration, new DefaultResourceLoader());
+        moderator.reload();
+        return moderator;
+    }
+}
@@ -0,0 +1,40 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.service.review;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.event.ReviewWrittenEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service.ReviewPageCache;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.ReviewTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReviewPageCacheTest {
+
+    @DisplayName("리뷰가 저장되면 같은 날짜, 같은 식사의 페이지만 삭제")
+    @Test
+    void evictOnlyWrittenKey() {
+        // given
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(ReviewPageCache.NAME);
+        ReviewPageCache reviewPageCache = new ReviewPageCache(cacheManager);
+        Cache cache = cacheManager.getCache(ReviewPageCache.NAME);
+        for (int page = 0; page < ReviewPageCache.CACHED_PAGES; page++) {
+            cache.put(ReviewPageCache.key("2022-07-13", ReviewTime.LUNCH, page), "lunch" + page);
+            cache.put(ReviewPageCache.key("2022-07-13", ReviewTime.DINNER, page), "dinner" + page);
+            cache.put(ReviewPageCache.key("2022-07-12", ReviewTime.LUNCH, page), "yesterday" + page);
+        }
+
+        // when
+        reviewPageCache.onWritten(new ReviewWrittenEvent(LocalDate.of(2022, 7, 13), ReviewTime.LUNCH));
+
+        // then
+        for (int page = 0; page < ReviewPageCache.CACHED_PAGES; page++) {
+            assertThat(cache.get(ReviewPageCache.key("2022-07-13", ReviewTime.LUNCH, page))).isNull();
+            assertThat(cache.get(ReviewPageCache.key("2022-07-13", ReviewTime.DINNER, page))).isNotNull();
+            assertThat(cache.get(ReviewPageCache.key("2022-07-12", ReviewTime.LUNCH, page))).isNotNull();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.service.review;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.Review;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.ReviewListDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service.DishRatingBoard;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service.ReviewModerator;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service.ReviewServiceImpl;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service.ReviewTermIndex;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service.ReviewWriter;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service.ReviewedUserIndex;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.ReviewTime;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.User;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.type.UserRole;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.export.StreamingExporter;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.infra.neis.MealPlannerInfra;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리뷰 목록 한 페이지가 작성자 수와 상관없이 쿼리 두 번(목록, 개수)으로 끝나는지 확인합니다
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:review-query-count;MODE=MySQL;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ReviewServiceImpl.class)
+class ReviewQueryCountTest {
+
+    // 한 사용자는 한 식사에 리뷰를 하나만 작성할 수 있으므로 리뷰마다 작성자가 다릅니다
+    private static final int REVIEWS = 12;
+    private static final int USERS = REVIEWS;
+
+    @Autowired
+    private ReviewServiceImpl reviewService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private MealPlannerInfra mealPlannerInfra;
+
+    @MockBean
+    private DishRatingBoard dishRatingBoard;
+
+    @MockBean
+    private ReviewWriter reviewWriter;
+
+    @MockBean
+    private ReviewedUserIndex reviewedUserIndex;
+
+    @MockBean
+    private ReviewModerator reviewModerator;
+
+    @MockBean
+    private StreamingExporter streamingExporter;
+
+    @MockBean
+    private ReviewTermIndex reviewTermIndex;
+
+    @DisplayName("리뷰 목록 한 페이지는 목록 조회와 개수 조회 두 번만 실행")
+    @Test
+    void reviewPageQueryCount() {
+        // given
+        User[] users = new User[USERS];
+        for (int i = 0; i < USERS; i++) {
+            users[i] = entityManager.persist(User.builder()
+                    .name("user" + i)
+                    .role(UserRole.USER)
+                    .openId("open-id-" + i)
+                    .build());
+        }
+        for (int i = 0; i < REVIEWS; i++) {
+            entityManager.persist(Review.builder()
+                    .user(users[i % USERS])
+                    .date(LocalDate.now())
+                    .reviewTime(ReviewTime.LUNCH)
+                    .message("리뷰 " + i)
+                    .rate(i % 5 + 1)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        ReviewListDto reviews = reviewService.getReviewByDate(LocalDate.now().toString(), ReviewTime.LUNCH, 0);
+
+        // then
+        assertThat(reviews.getResult()).hasSize(10);
+        assertThat(reviews.getPageCount()).isEqualTo(2);
+        assertThat(reviews.getResult().get(0).getMessage()).isEqualTo("리뷰 " + (REVIEWS - 1));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,215 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.service.review;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.Review;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.ReviewRatingSummary;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.ReviewRatingSummaryId;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.request.WriteReviewRequestDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.ReviewSummaryDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.ReviewRatingSummaryRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.ReviewRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service.ReviewModerator;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service.ReviewRecorder;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service.ReviewServiceImpl;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service.ReviewWriter;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service.ReviewedUserIndex;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.ReviewTime;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.entity.User;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.user.type.UserRole;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.infra.neis.MealPlannerInfra;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewRatingSummaryTest {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private ReviewRatingSummaryRepository reviewRatingSummaryRepository;
+
+    @Mock
+    private MealPlannerInfra mealPlannerInfra;
+
+    @Mock
+    private ReviewWriter reviewWriter;
+
+    @Mock
+    private ReviewedUserIndex reviewedUserIndex;
+
+    @Mock
+    private ReviewModerator reviewModerator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ReviewServiceImpl reviewService;
+
+    @DisplayName("리뷰 작성은 ReviewWriter 에 위임")
+    @Test
+    void writeReviewDelegatesToWriter() {
+        // given
+        User user = User.builder().id(1L).name("테스터").role(UserRole.USER).build();
+        WriteReviewRequestDto request = WriteReviewRequestDto.builder()
+                .date(LocalDate.now().toString())
+                .reviewTime(ReviewTime.LUNCH)
+                .message("맛있어요")
+                .rate(4)
+                .build();
+        when(reviewModerator.moderate("맛있어요")).thenReturn(new ReviewModerator.Result("맛있어요", false));
+        when(reviewedUserIndex.claim(LocalDate.now(), ReviewTime.LUNCH, 1L)).thenReturn(true);
+
+        // when
+        reviewService.writeReview(user, request);
+
+        // then
+        ArgumentCaptor<Review> review = ArgumentCaptor.forClass(Review.class);
+        verify(reviewWriter).write(review.capture());
+        assertThat(review.getValue().getRate()).isEqualTo(4);
+        verifyNoInteractions(reviewRepository, reviewRatingSummaryRepository);
+    }
+
+    @DisplayName("같은 식사에 이미 리뷰를 작성했으면 저장하지 않고 거절")
+    @Test
+    void rejectDuplicateReview() {
+        // given
+        User user = User.builder().id(1L).name("테스터").role(UserRole.USER).build();
+        WriteReviewRequestDto request = WriteReviewRequestDto.builder()
+                .date(LocalDate.now().toString())
+                .reviewTime(ReviewTime.LUNCH)
+                .message("또 맛있어요")
+                .rate(5)
+                .build();
+        when(reviewModerator.moderate("또 맛있어요")).thenReturn(new ReviewModerator.Result("또 맛있어요", false));
+        when(reviewedUserIndex.claim(LocalDate.now(), ReviewTime.LUNCH, 1L)).thenReturn(false);
+
+        // when
+        Review.AlreadyReviewed ex = assertThrows(Review.AlreadyReviewed.class, () -> reviewService.writeReview(user, request));
+
+        // then
+        assertThat(ex.getStatus()).isEqualTo(HttpStatus.CONFLICT);
+        verifyNoInteractions(reviewWriter);
+    }
+
+    @DisplayName("저장에 실패하면 작성 표시를 지워 다시 작성할 수 있게 함")
+    @Test
+    void releaseClaimOnWriteFailure() {
+        // given
+        User user = User.builder().id(1L).name("테스터").role(UserRole.USER).build();
+        WriteReviewRequestDto request = WriteReviewRequestDto.builder()
+                .date(LocalDate.now().toString())
+                .reviewTime(ReviewTime.LUNCH)
+                .message("맛있어요")
+                .rate(4)
+                .build();
+        when(reviewModerator.moderate("맛있어요")).thenReturn(new ReviewModerator.Result("맛있어요", false));
+        when(reviewedUserIndex.claim(LocalDate.now(), ReviewTime.LUNCH, 1L)).thenReturn(true);
+        doThrow(new Review.IngestQueueFull()).when(reviewWriter).write(any(Review.class));
+
+        // when
+        assertThrows(Review.IngestQueueFull.class, () -> reviewService.writeReview(user, request));
+
+        // then
+        verify(reviewedUserIndex).release(LocalDate.now(), ReviewTime.LUNCH, 1L);
+    }
+
+    @DisplayName("리뷰 묶음은 (날짜, 식사 시간)마다 집계에 한 번씩 upsert")
+    @Test
+    void recordAddsToSummaryOncePerGroup() {
+        // given
+        ReviewRecorder recorder = new ReviewRecorder(reviewRepository, reviewRatingSummaryRepository,
+                null, null, mealPlannerInfra, eventPublisher);
+        LocalDate date = LocalDate.of(2022, 7, 13);
+        when(reviewRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        recorder.record(List.of(
+                review(date, ReviewTime.LUNCH, 4),
+                review(date, ReviewTime.DINNER, 1),
+                review(date, ReviewTime.LUNCH, 5)), Map.of());
+
+        // then
+        verify(reviewRepository).saveAllAndFlush(anyList());
+        verify(reviewRatingSummaryRepository).add(date, ReviewTime.LUNCH.ordinal(), 2, 9, 0, 0, 0, 1, 1);
+        verify(reviewRatingSummaryRepository).add(date, ReviewTime.DINNER.ordinal(), 1, 1, 1, 0, 0, 0, 0);
+        verifyNoMoreInteractions(reviewRatingSummaryRepository);
+    }
+
+    @DisplayName("하루, 한 식사는 집계 행 하나만 조회")
+    @Test
+    void summaryOfDay() {
+        // given
+        LocalDate date = LocalDate.of(2022, 7, 13);
+        when(reviewRatingSummaryRepository.findById(new ReviewRatingSummaryId(date, ReviewTime.LUNCH)))
+                .thenReturn(Optional.of(summary(date, ReviewTime.LUNCH, 0, 1, 0, 1, 1)));
+
+        // when
+        ReviewSummaryDto summary = reviewService.getReviewSummary("2022-07-13", null, ReviewTime.LUNCH);
+
+        // then
+        assertThat(summary.getCount()).isEqualTo(3L);
+        assertThat(summary.getAverage()).isEqualTo(3.67);
+        assertThat(summary.getHistogram()).containsExactly(0, 1, 0, 1, 1);
+        verifyNoInteractions(reviewRepository);
+    }
+
+    @DisplayName("기간 조회는 날짜별 집계 행을 합산")
+    @Test
+    void summaryOfRange() {
+        // given
+        LocalDate from = LocalDate.of(2022, 7, 11);
+        LocalDate to = LocalDate.of(2022, 7, 12);
+        when(reviewRatingSummaryRepository.findAllByIdDateBetween(from, to)).thenReturn(List.of(
+                summary(from, ReviewTime.BREAKFAST, 1, 0, 0, 0, 0),
+                summary(to, ReviewTime.DINNER, 0, 0, 0, 0, 2)));
+
+        // when
+        ReviewSummaryDto summary = reviewService.getReviewSummary("2022-07-11", "2022-07-12", null);
+
+        // then
+        assertThat(summary.getCount()).isEqualTo(3L);
+        assertThat(summary.getAverage()).isEqualTo(3.67);
+        assertThat(summary.getHistogram()).containsExactly(1, 0, 0, 0, 2);
+    }
+
+    @DisplayName("종료일이 시작일보다 앞서면 거절")
+    @Test
+    void invalidRange() {
+        assertThrows(ReviewRatingSummary.InvalidRange.class,
+                () -> reviewService.getReviewSummary("2022-07-13", "2022-07-12", null));
+    }
+
+    private static Review review(LocalDate date, ReviewTime reviewTime, int rate) {
+        return Review.builder().date(date).reviewTime(reviewTime).message("리뷰").rate(rate).build();
+    }
+
+    private ReviewRatingSummary summary(LocalDate date, ReviewTime reviewTime, long... rates) {
+        long count = 0;
+        long sum = 0;
+        for (int i = 0; i < rates.length; i++) {
+            count += rates[i];
+            sum += rates[i] * (i + 1);
+        }
+        return new ReviewRatingSummary(new ReviewRatingSummaryId(date, reviewTime), count, sum,
+                rates[0], rates[1], rates[2], rates[3], rates[4]);
+    }
+}
@@ -0,0 +1,105 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.service.review;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.event.ReviewMessageEvent;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.ReviewTermDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.ReviewTermsDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.ReviewReportRow;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.ReviewRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service.ReviewTermIndex;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.RatingBucket;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.ReviewTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewTermIndexTest {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    private ReviewTermIndex index;
+
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        index = new ReviewTermIndex(reviewRepository);
+    }
+
+    @DisplayName("기간 안의 날짜별 빈도를 합쳐 평점 구간별로 자주 나온 표현을 반환")
+    @Test
+    void topTermsByBucket() {
+        // given
+        LocalDate yesterday = today.minusDays(1);
+        index.onWritten(new ReviewMessageEvent(yesterday, 1, "국이 식었다"));
+        index.onWritten(new ReviewMessageEvent(yesterday, 2, "밥이 식었다 ㅋㅋ"));
+        index.onWritten(new ReviewMessageEvent(today, 1, "너무 짜다"));
+        index.onWritten(new ReviewMessageEvent(today, 2, "반찬이 짜다"));
+        index.onWritten(new ReviewMessageEvent(today, 5, "짜다 그래도 맛있다"));
+        index.onWritten(new ReviewMessageEvent(today.minusDays(2), 1, "짜다"));
+
+        // when
+        ReviewTermsDto low = index.top(yesterday, today, RatingBucket.LOW, 10);
+        ReviewTermsDto high = index.top(yesterday, today, RatingBucket.HIGH, 10);
+
+        // then
+        // "식었", "었다" 는 항상 "식었다" 안에서만 나왔으므로 빠집니다
+        assertThat(low.getReviews()).isEqualTo(4);
+        assertThat(low.getTerms()).extracting(ReviewTermDto::getTerm).containsExactly("식었다", "짜다");
+        assertThat(low.getTerms()).extracting(ReviewTermDto::getReviews).containsExactly(2L, 2L);
+        assertThat(low.getTerms()).extracting(ReviewTermDto::getRatio).containsExactly(0.5, 0.5);
+
+        // 한 번만 나온 표현은 제외합니다
+        assertThat(high.getReviews()).isEqualTo(1);
+        assertThat(high.getTerms()).isEmpty();
+    }
+
+    @DisplayName("재구성 시 최근 리뷰를 한 번 읽고, 검열에 걸린 리뷰는 제외")
+    @Test
+    void rebuild() {
+        // given
+        when(reviewRepository.streamForReport(any(), any())).thenReturn(Stream.of(
+                row(today, 1, "식었어요", false),
+                row(today, 2, "완전 식었어요", false),
+                row(today, 1, "식었어요", true)));
+
+        // when
+        index.rebuild();
+        ReviewTermsDto low = index.top(today, today, RatingBucket.LOW, 1);
+
+        // then
+        verify(reviewRepository).streamForReport(any(), eq(today));
+        assertThat(low.getReviews()).isEqualTo(2);
+        assertThat(low.getTerms()).extracting(ReviewTermDto::getTerm).containsExactly("식었어");
+    }
+
+    private static ReviewReportRow row(LocalDate date, int rate, String message, boolean flagged) {
+        return new ReviewReportRow() {
+            @Override
+            public LocalDate getDate() { return date; }
+
+            @Override
+            public ReviewTime getReviewTime() { return ReviewTime.LUNCH; }
+
+            @Override
+            public int getRate() { return rate; }
+
+            @Override
+            public String getMessage() { return message; }
+
+            @Override
+            public boolean isFlagged() { return flagged; }
+        };
+    }
+}
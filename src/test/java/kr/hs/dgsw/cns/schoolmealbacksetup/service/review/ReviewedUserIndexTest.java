@@ -0,0 +1,95 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.service.review;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.ReviewRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.ReviewedUser;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service.ReviewedUserIndex;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.ReviewTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewedUserIndexTest {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @InjectMocks
+    private ReviewedUserIndex reviewedUserIndex;
+
+    private final LocalDate today = LocalDate.now();
+
+    @DisplayName("같은 식사에는 한 번만 작성 가능하고 다른 식사는 따로 확인")
+    @Test
+    void claimOncePerMeal() {
+        assertThat(reviewedUserIndex.claim(today, ReviewTime.LUNCH, 7L)).isTrue();
+        assertThat(reviewedUserIndex.claim(today, ReviewTime.LUNCH, 7L)).isFalse();
+        assertThat(reviewedUserIndex.claim(today, ReviewTime.DINNER, 7L)).isTrue();
+        assertThat(reviewedUserIndex.claim(today, ReviewTime.LUNCH, 8L)).isTrue();
+    }
+
+    @DisplayName("시작 시 DB 의 최근 리뷰로 재구성")
+    @Test
+    void rebuildFromRecentReviews() {
+        // given
+        when(reviewRepository.findReviewedUsersSince(any(LocalDate.class)))
+                .thenReturn(List.of(reviewed(7L, today, ReviewTime.LUNCH)));
+
+        // when
+        reviewedUserIndex.rebuild();
+
+        // then
+        assertThat(reviewedUserIndex.claim(today, ReviewTime.LUNCH, 7L)).isFalse();
+        assertThat(reviewedUserIndex.claim(today, ReviewTime.BREAKFAST, 7L)).isTrue();
+    }
+
+    @DisplayName("트랜잭션이 되돌려지면 다시 작성 가능")
+    @Test
+    void releaseOnRollback() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(reviewedUserIndex.claim(today, ReviewTime.LUNCH, 7L)).isTrue();
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertThat(reviewedUserIndex.claim(today, ReviewTime.LUNCH, 7L)).isTrue();
+    }
+
+    private static ReviewedUser reviewed(long userId, LocalDate date, ReviewTime reviewTime) {
+        return new ReviewedUser() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public LocalDate getDate() {
+                return date;
+            }
+
+            @Override
+            public ReviewTime getReviewTime() {
+                return reviewTime;
+            }
+        };
+    }
+}
@@ -0,0 +1,186 @@
+package kr.hs.dgsw.cns.schoolmealbacksetup.service.review;
+
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.entity.WeeklyReviewReport;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.presentation.dto.response.WeeklyReportDto;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.ReviewReportRow;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.ReviewRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.repository.WeeklyReviewReportRepository;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.service.WeeklyReportGenerator;
+import kr.hs.dgsw.cns.schoolmealbacksetup.domain.review.type.ReviewTime;
+import kr.hs.dgsw.cns.schoolmealbacksetup.global.config.WeeklyReportConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WeeklyReportGeneratorTest {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private WeeklyReviewReportRepository weeklyReviewReportRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private final WeeklyReportConfiguration configuration = new WeeklyReportConfiguration();
+
+    private WeeklyReportGenerator generator;
+
+    private final LocalDate lastWeek = WeeklyReviewReport.lastCompletedWeek(LocalDate.now());
+
+    @BeforeEach
+    void setUp() {
+        generator = new WeeklyReportGenerator(configuration, reviewRepository, weeklyReviewReportRepository,
+                new TransactionTemplate(transactionManager), taskScheduler);
+    }
+
+    @DisplayName("보고서가 이미 있는 주는 다시 계산하지 않고 빠진 주만 저장")
+    @Test
+    void generateMissingWeeksOnly() {
+        // given
+        configuration.setCatchUpWeeks(3);
+        when(weeklyReviewReportRepository.findWeekStartsBetween(lastWeek.minusWeeks(2), lastWeek))
+                .thenReturn(List.of(lastWeek.minusWeeks(1)));
+        when(reviewRepository.streamForReport(any(), any())).thenAnswer(invocation -> Stream.empty());
+
+        // when
+        generator.generate();
+
+        // then
+        ArgumentCaptor<LocalDate> captor = ArgumentCaptor.forClass(LocalDate.class);
+        verify(weeklyReviewReportRepository, times(2)).insertIgnore(captor.capture(), any(), anyString());
+        assertThat(captor.getAllValues()).containsExactly(lastWeek.minusWeeks(2), lastWeek);
+        verify(reviewRepository, never()).streamForReport(lastWeek.minusWeeks(1), lastWeek.minusWeeks(1).plusDays(6));
+    }
+
+    @DisplayName("한 번 훑어 식사별 평균과 분포, 평점이 낮고 내용이 긴 불만 리뷰를 저장")
+    @Test
+    void computeReport() {
+        // given
+        configuration.setCatchUpWeeks(1);
+        configuration.setComplaints(2);
+        LocalDate monday = lastWeek;
+        when(weeklyReviewReportRepository.findWeekStartsBetween(lastWeek, lastWeek)).thenReturn(List.of());
+        when(reviewRepository.streamForReport(lastWeek, lastWeek.plusDays(6))).thenReturn(Stream.of(
+                row(monday, ReviewTime.LUNCH, 5, "맛있어요", false),
+                row(monday, ReviewTime.LUNCH, 2, "짜요", false),
+                row(monday.plusDays(1), ReviewTime.LUNCH, 1, "국이 다 식었어요", false),
+                row(monday.plusDays(2), ReviewTime.LUNCH, 2, "밥이 설익고 반찬이 너무 짜요", false),
+                row(monday.plusDays(3), ReviewTime.LUNCH, 1, "***", true),
+                row(monday, ReviewTime.DINNER, 4, "괜찮아요", false)));
+
+        // when
+        generator.generate();
+
+        // then
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(weeklyReviewReportRepository).insertIgnore(eq(lastWeek), any(), captor.capture());
+        WeeklyReportDto report = new WeeklyReviewReport(lastWeek, LocalDateTime.now(), captor.getValue()).toDto();
+
+        assertThat(report.getWeekStart()).isEqualTo(lastWeek.toString());
+        assertThat(report.getWeekEnd()).isEqualTo(lastWeek.plusDays(6).toString());
+        assertThat(report.getCount()).isEqualTo(6);
+        assertThat(report.getAverage()).isEqualTo(2.5);
+        assertThat(report.getMeals()).extracting(WeeklyReportDto.MealReport::getReviewTime)
+                .containsExactly(ReviewTime.values());
+
+        WeeklyReportDto.MealReport lunch = report.getMeals().stream()
+                .filter(meal -> meal.getReviewTime() == ReviewTime.LUNCH)
+                .findFirst().orElseThrow();
+        assertThat(lunch.getCount()).isEqualTo(5);
+        assertThat(lunch.getAverage()).isEqualTo(2.2);
+        assertThat(lunch.getHistogram()).containsExactly(2, 2, 0, 0, 1);
+        // 가려진(flagged) 리뷰는 불만 목록에서 제외됩니다
+        assertThat(lunch.getComplaints().stream().map(WeeklyReportDto.Complaint::getMessage).collect(Collectors.toList()))
+                .containsExactly("국이 다 식었어요", "밥이 설익고 반찬이 너무 짜요");
+    }
+
+    @DisplayName("한 주의 계산이 실패해도 예외를 던지지 않고 나머지 주를 저장")
+    @Test
+    void continueAfterFailedWeek() {
+        // given
+        configuration.setCatchUpWeeks(2);
+        when(weeklyReviewReportRepository.findWeekStartsBetween(lastWeek.minusWeeks(1), lastWeek)).thenReturn(List.of());
+        when(reviewRepository.streamForReport(lastWeek.minusWeeks(1), lastWeek.minusWeeks(1).plusDays(6)))
+                .thenThrow(new QueryTimeoutException("timeout"));
+        when(reviewRepository.streamForReport(lastWeek, lastWeek.plusDays(6))).thenReturn(Stream.empty());
+
+        // when
+        generator.generate();
+
+        // then
+        verify(weeklyReviewReportRepository).insertIgnore(eq(lastWeek), any(), anyString());
+        verifyNoMoreInteractions(weeklyReviewReportRepository);
+    }
+
+    @DisplayName("보고서 목록을 읽지 못하면 로그만 남기고 끝냄")
+    @Test
+    void logFailedLookup() {
+        // given
+        configuration.setCatchUpWeeks(1);
+        when(weeklyReviewReportRepository.findWeekStartsBetween(lastWeek, lastWeek))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        generator.generate();
+
+        // then
+        verifyNoInteractions(reviewRepository);
+    }
+
+    @DisplayName("시작할 때의 계산은 이벤트 스레드가 아니라 스케줄러에서 실행")
+    @Test
+    void catchUpOnScheduler() {
+        // when
+        generator.catchUp();
+
+        // then
+        verify(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+        verifyNoInteractions(weeklyReviewReportRepository, reviewRepository);
+    }
+
+    private static ReviewReportRow row(LocalDate date, ReviewTime reviewTime, int rate, String message, boolean flagged) {
+        return new ReviewReportRow() {
+            @Override
+            public LocalDate getDate() { return date; }
+
+            @Override
+            public ReviewTime getReviewTime() { return reviewTime; }
+
+            @Override
+            public int getRate() { return rate; }
+
+            @Override
+            public String getMessage() { return message; }
+
+            @Override
+            public boolean isFlagged() { return flagged; }
+        };
+    }
+}